@@ -0,0 +1,491 @@
+package org.dat.json;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+import org.reflect.invoke.util.Generic;
+import org.reflect.invoke.util.Hierarchy;
+
+/**
+ * <h3>Class Binding</h3>
+ * <p>
+ * Class Binding เป็น Class สำหรับเก็บแผนการแปลงระหว่าง Java Object กับ
+ * JSON Object ของแต่ละ Class ได้แก่ Field ที่ใช้งาน (เรียก
+ * <code>setAccessible</code> แล้ว) พร้อม JSON Key และ DataType ของแต่ละ
+ * Field ที่ได้จาก {@link Util#getJsonKey(Props, Field)} เพื่อให้การแปลง
+ * Object ของ Class เดียวกันหลายๆ ตัวค้นหา Field และ Annotation
+ * เพียงครั้งเดียว รวมถึง {@link MethodHandle} สำหรับอ่านและกำหนดค่าของ
+ * แต่ละ Field ({@link Props#objectParsingHandles}) หรือ {@link JSONCodec}
+ * ของ Class ที่ถูกสร้างไว้ระหว่าง compile
+ * </p>
+ * <p>
+ * แผนจะถูกเก็บไว้ใน {@link ClassValue} แยกตาม Properties ที่ใช้ค้นหา
+ * JSON Key ({@link Props#objectParsingKey},
+ * {@link Props#objectParsingKeyField},
+ * {@link Props#objectParsingKeyIgnoreField} และ
+ * {@link Props#objectParsingKeyRequire})
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+final class Binding {
+	/**
+	 * <h3>Class Binding.Property</h3>
+	 * <p>
+	 * Class Binding.Property เป็น Class สำหรับเก็บข้อมูลของ Field
+	 * ที่ใช้งานในการแปลง
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static final class Property {
+		/**
+		 * Attribute สำหรับเก็บ Field ที่เรียก <code>setAccessible</code>
+		 * แล้ว (null หากใช้ {@link #codec})
+		 */
+		private final Field field;
+		/**
+		 * Attribute สำหรับเก็บ JSON Key ของ Field
+		 */
+		final String key;
+		/**
+		 * Attribute สำหรับเก็บ Generic Type ของ Field
+		 */
+		final Type type;
+		/**
+		 * Attribute สำหรับเก็บว่า DataType ของ Field เป็น DataType ของ JSON
+		 * Value หรือไม่
+		 */
+		final boolean value;
+		/**
+		 * Attribute สำหรับเก็บ {@link MethodHandle} สำหรับอ่านค่าของ Field
+		 * ในรูปแบบ <code>(Object)Object</code> หรือ null
+		 * หากไม่ได้รับอนุญาตให้เข้าถึง
+		 */
+		private final MethodHandle getter;
+		/**
+		 * Attribute สำหรับเก็บ {@link MethodHandle} สำหรับกำหนดค่าของ Field
+		 * ในรูปแบบ <code>(Object,Object)void</code> หรือ null
+		 * หากไม่ได้รับอนุญาตให้เข้าถึง (เช่น Field ที่เป็น final)
+		 */
+		private final MethodHandle setter;
+		/**
+		 * Attribute สำหรับเก็บ {@link JSONCodec} ที่ใช้อ่านและกำหนดค่า
+		 * ของ Field (null หากใช้ {@link #field})
+		 */
+		private final JSONCodec<Object> codec;
+		/**
+		 * Attribute สำหรับเก็บลำดับของ Field ใน {@link #codec}
+		 */
+		private final int index;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Property}
+		 *
+		 * @param field
+		 *            Field ที่เรียก <code>setAccessible</code> แล้ว
+		 * @param key
+		 *            JSON Key ของ Field
+		 * @param value
+		 *            DataType ของ Field เป็น DataType ของ JSON Value หรือไม่
+		 */
+		Property(Field field, String key, boolean value) {
+			this.field = field;
+			this.key = key;
+			this.type = field.getGenericType();
+			this.value = value;
+			boolean instance = !Modifier.isStatic(field.getModifiers());
+			MethodHandle getter;
+			try {
+				getter = LOOKUP.unreflectGetter(field);
+				if (!instance) {
+					getter = MethodHandles.dropArguments(getter, 0, Object.class);
+				}
+				getter = getter.asType(GETTER);
+			} catch (Throwable e) {
+				getter = null;
+			}
+			MethodHandle setter;
+			try {
+				setter = LOOKUP.unreflectSetter(field);
+				if (!instance) {
+					setter = MethodHandles.dropArguments(setter, 0, Object.class);
+				}
+				setter = setter.asType(SETTER);
+			} catch (Throwable e) {
+				setter = null;
+			}
+			this.getter = getter;
+			this.setter = setter;
+			this.codec = null;
+			this.index = -1;
+		}
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Property} ที่ใช้ {@link JSONCodec}
+		 *
+		 * @param codec
+		 *            {@link JSONCodec} ของ Class
+		 * @param index
+		 *            ลำดับของ Field ใน codec
+		 * @param value
+		 *            DataType ของ Field เป็น DataType ของ JSON Value หรือไม่
+		 */
+		Property(JSONCodec<Object> codec, int index, boolean value) {
+			this.field = null;
+			this.key = codec.key(index);
+			this.type = codec.typeOf(index);
+			this.value = value;
+			this.getter = null;
+			this.setter = null;
+			this.codec = codec;
+			this.index = index;
+		}
+
+		/**
+		 * อ่านค่าของ Field ผ่าน {@link JSONCodec}, {@link MethodHandle}
+		 * หรือ {@link Field} ตามลำดับ
+		 *
+		 * @param target
+		 *            Object ที่ต้องการอ่านค่า
+		 * @param handles
+		 *            ใช้ {@link MethodHandle} หรือไม่
+		 *            ({@link Props#objectParsingHandles})
+		 * @return ค่าของ Field (primitive จะถูกแปลงเป็น Wrapper)
+		 * @throws Throwable
+		 *             ไม่สามารถอ่านค่าได้
+		 */
+		Object get(Object target, boolean handles) throws Throwable {
+			if (codec != null) return codec.get(target, index);
+			return handles && getter != null
+					? (Object) getter.invokeExact(target) : field.get(target);
+		}
+
+		/**
+		 * กำหนดค่าของ Field ผ่าน {@link JSONCodec}, {@link MethodHandle}
+		 * หรือ {@link Field} ตามลำดับ
+		 *
+		 * @param target
+		 *            Object ที่ต้องการกำหนดค่า
+		 * @param value
+		 *            ค่าที่ต้องการกำหนด
+		 * @param handles
+		 *            ใช้ {@link MethodHandle} หรือไม่
+		 *            ({@link Props#objectParsingHandles})
+		 * @throws Throwable
+		 *             ไม่สามารถกำหนดค่าได้ (รวมถึงกำหนด null ให้กับ Field
+		 *             ที่เป็น primitive)
+		 */
+		void set(Object target, Object value, boolean handles)
+				throws Throwable {
+			if (codec != null) {
+				codec.set(target, index, value);
+			} else if (handles && setter != null) {
+				setter.invokeExact(target, value);
+			} else field.set(target, value);
+		}
+	}
+
+	/**
+	 * <h3>Class Binding.Plans</h3>
+	 * <p>
+	 * Class Binding.Plans เป็น Class สำหรับเก็บ {@link Binding} ของ Class
+	 * หนึ่งๆ แยกตาม Properties ที่ใช้ค้นหา JSON Key
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Plans {
+		/**
+		 * Attribute สำหรับเก็บ {@link JSONCodec} ของ Class (null หากไม่มี)
+		 */
+		final JSONCodec<Object> codec;
+		/**
+		 * Attribute สำหรับเก็บ {@link Binding} แยกตาม Properties
+		 */
+		final ConcurrentHashMap<List<Object>, Binding> variants = new ConcurrentHashMap<>();
+		/**
+		 * Attribute สำหรับเก็บ {@link Binding} ที่ถูกเรียกล่าสุด
+		 */
+		volatile Binding last;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Plans}
+		 *
+		 * @param codec
+		 *            {@link JSONCodec} ของ Class หรือ null หากไม่มี
+		 */
+		Plans(JSONCodec<Object> codec) {
+			this.codec = codec;
+		}
+	}
+
+	/**
+	 * <h3>Class Binding.Cache</h3>
+	 * <p>
+	 * Class Binding.Cache เป็น Class สำหรับเก็บ {@link Binding} ของทุก Class
+	 * ที่สร้างโดยตัวช่วยในการทำงานของ {@link JSON} ตัวหนึ่ง
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static final class Cache extends ClassValue<Plans> {
+		/**
+		 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+		 * ที่ใช้ค้นหา JSON Key
+		 */
+		private final Util util;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Cache}
+		 *
+		 * @param util
+		 *            ตัวช่วยในการทำงานของ {@link JSON} ที่ใช้ค้นหา JSON Key
+		 */
+		Cache(Util util) {
+			this.util = util;
+		}
+
+		@Override
+		protected Plans computeValue(Class<?> type) {
+			return new Plans(codec(type));
+		}
+
+		/**
+		 * เรียก {@link Binding} ของ Class ที่ระบุ โดยสร้างและเก็บไว้หากยังไม่มี
+		 *
+		 * @param type
+		 *            Class ที่ต้องการ
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return {@link Binding} ของ type
+		 * @throws NullPointerException
+		 *             type หรือ props เป็น null
+		 */
+		Binding get(Class<?> type, Props props) throws NullPointerException {
+			Plans plans = get(type);
+			Binding binding = plans.last;
+			if (binding != null && binding.matches(props)) return binding;
+			binding = plans.variants.computeIfAbsent(settings(props),
+					k -> new Binding(util, type, props, plans.codec));
+			plans.last = binding;
+			return binding;
+		}
+	}
+
+	/**
+	 * {@link MethodHandles.Lookup} สำหรับสร้าง {@link MethodHandle} ของ Field
+	 * ที่เรียก <code>setAccessible</code> แล้ว
+	 */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	/**
+	 * รูปแบบของ {@link MethodHandle} สำหรับอ่านค่าของ Field
+	 */
+	private static final MethodType GETTER = MethodType
+			.methodType(Object.class, Object.class);
+	/**
+	 * รูปแบบของ {@link MethodHandle} สำหรับกำหนดค่าของ Field
+	 */
+	private static final MethodType SETTER = MethodType
+			.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Attribute สำหรับเก็บ Field ที่ใช้งานตามลำดับของ {@link Hierarchy}
+	 */
+	final Property[] properties;
+	/**
+	 * Attribute สำหรับเก็บลำดับใน {@link #properties} ของ Field ที่ใช้งาน
+	 * แยกตาม JSON Key
+	 */
+	private final Map<String, int[]> index;
+	/**
+	 * Attribute สำหรับเก็บว่าทุก Field ที่ใช้งานมี JSON Key ไม่ซ้ำกันหรือไม่
+	 */
+	final boolean unique;
+	/**
+	 * Attribute สำหรับเก็บ {@link JSONCodec} ที่ใช้ (null หากใช้ Reflection)
+	 */
+	private final JSONCodec<Object> codec;
+	/**
+	 * Attribute สำหรับเก็บ {@link Props#objectParsingKey} ที่ใช้สร้าง
+	 */
+	private final Class<? extends Annotation> key;
+	/**
+	 * Attribute สำหรับเก็บ {@link Props#objectParsingKeyField} ที่ใช้สร้าง
+	 */
+	private final String keyField;
+	/**
+	 * Attribute สำหรับเก็บ {@link Props#objectParsingKeyIgnoreField}
+	 * ที่ใช้สร้าง
+	 */
+	private final Class<? extends Annotation> ignoreField;
+	/**
+	 * Attribute สำหรับเก็บ {@link Props#objectParsingKeyRequire} ที่ใช้สร้าง
+	 */
+	private final boolean require;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link Binding}
+	 *
+	 * @param util
+	 *            ตัวช่วยในการทำงานของ {@link JSON} ที่ใช้ค้นหา JSON Key
+	 * @param type
+	 *            Class ที่ต้องการ
+	 * @param props
+	 *            Properties ของ {@link JSON} Object
+	 * @param codec
+	 *            {@link JSONCodec} ของ type หรือ null หากไม่มี
+	 */
+	private Binding(Util util, Class<?> type, Props props,
+			JSONCodec<Object> codec) {
+		this.key = props.objectParsingKey;
+		this.keyField = props.objectParsingKeyField;
+		this.ignoreField = props.objectParsingKeyIgnoreField;
+		this.require = props.objectParsingKeyRequire;
+		if (codec != null && codec.accepts(props)) {
+			this.codec = codec;
+			this.properties = new Property[codec.size()];
+			for (int i = 0; i < properties.length; i++) {
+				properties[i] = new Property(codec, i, util
+						.isJsonValueType(Generic.raw(codec.typeOf(i))));
+			}
+			this.index = index(properties);
+			this.unique = index.size() == properties.length;
+			return;
+		}
+		this.codec = null;
+		List<Property> properties = new ArrayList<>();
+		for (Class<?> clazz : new Hierarchy<>(type)) {
+			for (Field field : clazz.getDeclaredFields()) {
+				try {
+					String key = util.getJsonKey(props, field);
+					if (!field.isAccessible()) {
+						field.setAccessible(true);
+					}
+					properties.add(new Property(field, key,
+							util.isJsonValueType(field.getType())));
+				} catch (Throwable e) {}
+			}
+		}
+		this.properties = properties.toArray(new Property[properties.size()]);
+		this.index = index(this.properties);
+		this.unique = index.size() == this.properties.length;
+	}
+
+	/**
+	 * แยกลำดับของ Field ตาม JSON Key
+	 *
+	 * @param properties
+	 *            Field ที่ใช้งาน
+	 * @return ลำดับของ Field ที่ใช้งานแยกตาม JSON Key
+	 */
+	private static Map<String, int[]> index(Property[] properties) {
+		Map<String, int[]> index = new HashMap<>();
+		for (int i = 0; i < properties.length; i++) {
+			int[] same = index.get(properties[i].key);
+			if (same == null) {
+				same = new int[] { i };
+			} else {
+				same = Arrays.copyOf(same, same.length + 1);
+				same[same.length - 1] = i;
+			}
+			index.put(properties[i].key, same);
+		}
+		return index;
+	}
+
+	/**
+	 * เรียกลำดับใน {@link #properties} ของ Field ที่ใช้ JSON Key ที่ระบุ
+	 *
+	 * @param key
+	 *            JSON Key
+	 * @return ลำดับของ Field ที่ใช้ key หรือ null หากไม่มี
+	 */
+	int[] lookup(String key) {
+		return index.get(key);
+	}
+
+	/**
+	 * สร้าง Object ใหม่ของ Class ที่แปลง
+	 *
+	 * @param type
+	 *            Class ที่แปลง
+	 * @return Object ที่สร้างขึ้น
+	 * @throws ReflectiveOperationException
+	 *             ไม่สามารถสร้าง Object ได้
+	 */
+	Object newInstance(Class<?> type) throws ReflectiveOperationException {
+		return codec == null ? type.newInstance() : codec.newInstance();
+	}
+
+	/**
+	 * ค้นหา {@link JSONCodec} ของ Class ที่ระบุ
+	 * (<code>&lt;ชื่อ Class&gt;_JSONCodec</code> ใน package เดียวกัน)
+	 *
+	 * @param type
+	 *            Class ที่ต้องการ
+	 * @return {@link JSONCodec} ของ type หรือ null หากไม่มี
+	 */
+	@SuppressWarnings("unchecked")
+	private static JSONCodec<Object> codec(Class<?> type) {
+		if (type.isArray() || type.isPrimitive() || type.isInterface())
+			return null;
+		String name = type.getName();
+		int dot = name.lastIndexOf('.') + 1;
+		name = name.substring(0, dot)
+				+ name.substring(dot).replace('$', '_') + "_JSONCodec";
+		try {
+			Class<?> clazz = Class.forName(name, true, type.getClassLoader());
+			if (JSONCodec.class.isAssignableFrom(clazz)) {
+				JSONCodec<Object> codec = (JSONCodec<Object>) clazz
+						.newInstance();
+				if (codec.type() == type) return codec;
+			}
+		} catch (Throwable e) {}
+		return null;
+	}
+
+	/**
+	 * ตรวจสอบว่า {@link Binding} นี้สร้างจาก Properties ที่ใช้ค้นหา JSON Key
+	 * เดียวกับ props หรือไม่
+	 *
+	 * @param props
+	 *            Properties ของ {@link JSON} Object
+	 * @return true หากใช้ Properties เดียวกัน
+	 */
+	private boolean matches(Props props) {
+		return key == props.objectParsingKey
+				&& ignoreField == props.objectParsingKeyIgnoreField
+				&& require == props.objectParsingKeyRequire
+				&& (keyField == null ? props.objectParsingKeyField == null
+						: keyField.equals(props.objectParsingKeyField));
+	}
+
+	/**
+	 * สร้าง key สำหรับแยก {@link Binding} ตาม Properties ที่ใช้ค้นหา JSON Key
+	 *
+	 * @param props
+	 *            Properties ของ {@link JSON} Object
+	 * @return key ของ Properties
+	 */
+	private static List<Object> settings(Props props) {
+		return Arrays.asList(props.objectParsingKey,
+				props.objectParsingKeyField, props.objectParsingKeyIgnoreField,
+				props.objectParsingKeyRequire);
+	}
+}
@@ -0,0 +1,294 @@
+package org.dat.json;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * <h3>Class DateCodec</h3>
+ * <p>
+ * Class DateCodec เป็น Class สำหรับแปลงวันที่และเวลาระหว่าง JSON String
+ * ในรูปแบบ ISO-8601 กับเวลาแบบ epoch millisecond โดยคำนวณวันที่จากตัวเลขโดยตรง
+ * (proleptic Gregorian) และจดจำ offset ของ Time Zone ตั้งต้นในช่วงเวลาระหว่าง
+ * การเปลี่ยนแปลง offset ({@link ZoneRules}) ทำให้ไม่ต้องสร้าง
+ * {@link java.util.Calendar} หรือ {@link java.text.SimpleDateFormat}
+ * ทุกครั้ง
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+final class DateCodec {
+	/**
+	 * <h3>Class DateCodec.Zone</h3>
+	 * <p>
+	 * Class DateCodec.Zone เป็น Class สำหรับจดจำ offset ของ Time Zone
+	 * ในช่วงเวลาระหว่างการเปลี่ยนแปลง offset สองครั้ง (immutable)
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Zone {
+		/**
+		 * Attribute สำหรับเก็บ ID ของ Time Zone
+		 */
+		final String id;
+		/**
+		 * Attribute สำหรับเก็บกฎการเปลี่ยนแปลง offset ของ Time Zone
+		 */
+		final ZoneRules rules;
+		/**
+		 * Attribute สำหรับเก็บเวลาเริ่มต้นของช่วง (millisecond)
+		 */
+		final long start;
+		/**
+		 * Attribute สำหรับเก็บเวลาสิ้นสุดของช่วง (millisecond, ไม่รวม)
+		 */
+		final long end;
+		/**
+		 * Attribute สำหรับเก็บ offset (วินาที) ภายในช่วง
+		 */
+		final int offset;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Zone}
+		 *
+		 * @param id
+		 *            ID ของ Time Zone
+		 * @param rules
+		 *            กฎการเปลี่ยนแปลง offset ของ Time Zone
+		 * @param start
+		 *            เวลาเริ่มต้นของช่วง
+		 * @param end
+		 *            เวลาสิ้นสุดของช่วง
+		 * @param offset
+		 *            offset ภายในช่วง
+		 */
+		Zone(String id, ZoneRules rules, long start, long end, int offset) {
+			this.id = id;
+			this.rules = rules;
+			this.start = start;
+			this.end = end;
+			this.offset = offset;
+		}
+	}
+
+	/**
+	 * จำนวน millisecond ในหนึ่งวัน
+	 */
+	private static final long DAY = 86400000L;
+	/**
+	 * รูปแบบสำหรับวันที่ที่ปีไม่ได้อยู่ในช่วง 0 ถึง 9999
+	 */
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter
+			.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSxxx", Locale.US);
+	/**
+	 * Attribute สำหรับจดจำ offset ของ Time Zone ตั้งต้นล่าสุด
+	 */
+	private static volatile Zone zone;
+
+	/**
+	 * Constructor สำหรับป้องกันการสร้าง Instance
+	 */
+	private DateCodec() {}
+
+	/**
+	 * แปลงวันที่และเวลาเป็นเวลาแบบ epoch millisecond โดยค่าที่เกินช่วง (เช่น
+	 * เดือนที่ 13) จะถูกทดไปยังหน่วยที่ใหญ่กว่า
+	 *
+	 * @param value
+	 *            ข้อความของวันที่และเวลา
+	 * @param fields
+	 *            ค่าของแต่ละส่วนที่ได้จาก
+	 *            {@link Scalar#date(CharSequence, int[])}
+	 * @return เวลาแบบ epoch millisecond
+	 */
+	static long toTime(CharSequence value, int[] fields) {
+		long days = 0;
+		if (fields[Scalar.YEAR] >= 0) {
+			int month = fields[Scalar.MONTH] - 1;
+			days = toDays(fields[Scalar.YEAR] + Math.floorDiv(month, 12),
+					Math.floorMod(month, 12) + 1) + fields[Scalar.DAY] - 1;
+		}
+		long millis = 0;
+		if (fields[Scalar.HOUR] >= 0) {
+			millis = (fields[Scalar.HOUR] * 60L + fields[Scalar.MINUTE]) * 60000L;
+			if (fields[Scalar.SECOND] >= 0) {
+				millis += fields[Scalar.SECOND] * 1000L;
+				if (fields[Scalar.MILLI] >= 0) millis += fields[Scalar.MILLI];
+			}
+		}
+		long local = days * DAY + millis;
+		int index = fields[Scalar.ZONE];
+		if (index >= 0) return local - offset(value, index) * 1000L;
+		int offset = offset(local);
+		long time = local - offset * 1000L;
+		Zone zone = DateCodec.zone;
+		if (zone != null && zone.offset == offset && time - DAY >= zone.start
+				&& time + DAY < zone.end)
+			return time;
+		LocalDateTime dateTime = LocalDateTime.ofEpochSecond(
+				Math.floorDiv(local, 1000L),
+				(int) Math.floorMod(local, 1000L) * 1000000, ZoneOffset.UTC);
+		return ZonedDateTime.of(dateTime, TimeZone.getDefault().toZoneId())
+				.toInstant().toEpochMilli();
+	}
+
+	/**
+	 * อ่าน offset ของ Time Zone ในรูปแบบ <code>Z</code> หรือ
+	 * <code>&plusmn;H[:mm]</code> (offset ที่ไม่ถูกต้องจะถือว่าเป็น GMT)
+	 *
+	 * @param value
+	 *            ข้อความของวันที่และเวลา
+	 * @param index
+	 *            ตำแหน่งเริ่มต้นของ offset
+	 * @return offset (วินาที)
+	 */
+	private static int offset(CharSequence value, int index) {
+		char sign = value.charAt(index);
+		if (sign == 'Z') return 0;
+		int length = value.length();
+		int colon = index + 1;
+		while (colon < length && value.charAt(colon) != ':') {
+			colon++;
+		}
+		int hours = Scalar.number(value, index + 1, colon);
+		int minutes = colon < length ? Scalar.number(value, colon + 1, length)
+				: 0;
+		if (hours > 23 || minutes > 59) return 0;
+		int offset = hours * 3600 + minutes * 60;
+		return sign == '-' ? -offset : offset;
+	}
+
+	/**
+	 * เรียก offset ของ Time Zone ตั้งต้น ณ เวลาที่ระบุ
+	 *
+	 * @param time
+	 *            เวลาแบบ epoch millisecond
+	 * @return offset (วินาที)
+	 */
+	static int offset(long time) {
+		TimeZone tz = TimeZone.getDefault();
+		String id = tz.getID();
+		Zone zone = DateCodec.zone;
+		if (zone != null && zone.id.equals(id)) {
+			if (time >= zone.start && time < zone.end) return zone.offset;
+		} else {
+			zone = null;
+		}
+		ZoneRules rules = zone == null ? tz.toZoneId().getRules()
+				: zone.rules;
+		if (rules.isFixedOffset()) {
+			int offset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+			DateCodec.zone = new Zone(id, rules, Long.MIN_VALUE,
+					Long.MAX_VALUE, offset);
+			return offset;
+		}
+		Instant instant = Instant.ofEpochMilli(time);
+		int offset = rules.getOffset(instant).getTotalSeconds();
+		ZoneOffsetTransition previous = rules.previousTransition(instant);
+		ZoneOffsetTransition next = rules.nextTransition(instant);
+		if (previous == null
+				|| previous.getOffsetAfter().getTotalSeconds() == offset) {
+			DateCodec.zone = new Zone(id, rules,
+					previous == null ? Long.MIN_VALUE
+							: previous.toEpochSecond() * 1000L,
+					next == null ? Long.MAX_VALUE
+							: next.toEpochSecond() * 1000L,
+					offset);
+		}
+		return offset;
+	}
+
+	/**
+	 * เขียนวันที่และเวลาในรูปแบบ
+	 * <code>yyyy-MM-dd'T'HH:mm:ss.SSS&plusmn;hh:mm</code> ตาม Time Zone
+	 * ตั้งต้น ต่อท้าย builder
+	 *
+	 * @param builder
+	 *            ตัวเก็บผลลัพธ์
+	 * @param time
+	 *            เวลาแบบ epoch millisecond
+	 * @return builder
+	 */
+	static StringBuilder format(StringBuilder builder, long time) {
+		int offset = offset(time);
+		long local = time + offset * 1000L;
+		long days = Math.floorDiv(local, DAY);
+		int millis = (int) Math.floorMod(local, DAY);
+		// civil from days (H. Hinnant)
+		long z = days + 719468;
+		long era = Math.floorDiv(z, 146097);
+		int doe = (int) (z - era * 146097);
+		int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		int mp = (5 * doy + 2) / 153;
+		int day = doy - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+		if (year < 0 || year > 9999) {
+			return builder.append(FORMATTER.format(Instant.ofEpochMilli(time)
+					.atOffset(ZoneOffset.ofTotalSeconds(offset))));
+		}
+		digits(builder, (int) year, 4).append('-');
+		digits(builder, month, 2).append('-');
+		digits(builder, day, 2).append('T');
+		digits(builder, millis / 3600000, 2).append(':');
+		digits(builder, millis / 60000 % 60, 2).append(':');
+		digits(builder, millis / 1000 % 60, 2).append('.');
+		digits(builder, millis % 1000, 3);
+		int minutes = offset / 60;
+		builder.append(minutes < 0 ? '-' : '+');
+		minutes = Math.abs(minutes);
+		digits(builder, minutes / 60, 2).append(':');
+		return digits(builder, minutes % 60, 2);
+	}
+
+	/**
+	 * เขียนตัวเลขที่ไม่ติดลบตามจำนวนหลักที่ระบุ (เติม 0 ด้านหน้า)
+	 *
+	 * @param builder
+	 *            ตัวเก็บผลลัพธ์
+	 * @param value
+	 *            ตัวเลข
+	 * @param width
+	 *            จำนวนหลัก
+	 * @return builder
+	 */
+	private static StringBuilder digits(StringBuilder builder, int value,
+			int width) {
+		int scale = 1;
+		for (int i = 1; i < width; i++) {
+			scale *= 10;
+		}
+		for (; scale > 0; scale /= 10) {
+			builder.append((char) ('0' + value / scale % 10));
+		}
+		return builder;
+	}
+
+	/**
+	 * คำนวณจำนวนวันนับจาก 1970-01-01 (days from civil, H. Hinnant)
+	 *
+	 * @param year
+	 *            ปี
+	 * @param month
+	 *            เดือน (1-12)
+	 * @return จำนวนวันนับจาก 1970-01-01 ถึงวันที่ 1 ของเดือนที่ระบุ
+	 */
+	private static long toDays(long year, int month) {
+		year -= month <= 2 ? 1 : 0;
+		long era = Math.floorDiv(year, 400);
+		int yoe = (int) (year - era * 400);
+		int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5;
+		int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097 + doe - 719468;
+	}
+}
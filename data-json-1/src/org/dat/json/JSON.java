@@ -5,8 +5,15 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
-import java.text.SimpleDateFormat;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -15,7 +22,6 @@ import javax.xml.bind.annotation.XmlElement;
 
 import org.reflect.invoke.util.Cast;
 import org.reflect.invoke.util.Generic;
-import org.reflect.invoke.util.Hierarchy;
 
 /**
  * <h3>Class JSON</h3>
@@ -85,11 +91,29 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 * Attribute สำหรับเก็บ JSON Value
 		 */
 		public Object value;
+		/**
+		 * Attribute สำหรับเก็บ JSON String ของ JSON Object หรือ JSON Array
+		 * นี้ที่เขียนไว้แล้ว ({@link Props#outputCaching}) หรือ null
+		 * หากยังไม่ได้เขียนหรือข้อมูลถูกเปลี่ยนแปลง
+		 */
+		transient String output;
+		/**
+		 * Attribute สำหรับจดจำรูปแบบการเขียนของ {@link #output}
+		 */
+		transient int outputFormat;
+		/**
+		 * Attribute สำหรับจดจำ JSON Object หรือ JSON Array ที่เก็บข้อมูลนี้
+		 * (กำหนดเมื่อเขียน JSON String แบบ {@link Props#outputCaching})
+		 */
+		transient Data parent;
 
 		@Override
 		public Data clone() {
 			try {
-				return (Data) super.clone();
+				Data clone = (Data) super.clone();
+				clone.output = null;
+				clone.parent = null;
+				return clone;
 			} catch (CloneNotSupportedException e) {
 				return null;
 			}
@@ -160,6 +184,64 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 * ไว้ทุกField หรือไม่
 		 */
 		public boolean objectParsingKeyRequire;
+		/**
+		 * Property สำหรับกำหนดว่าจะอ่านและกำหนดค่าของ Field ใน Java Object
+		 * ผ่าน {@link java.lang.invoke.MethodHandle} แทน {@link Field}
+		 * หรือไม่ (Field ที่ไม่ได้รับอนุญาตให้สร้าง MethodHandle
+		 * จะใช้ {@link Field} เสมอ)
+		 */
+		public boolean objectParsingHandles = true;
+		/**
+		 * Property สำหรับกำหนดว่าจะแปลง JSON Value ที่อยู่ในรูปแบบของวันที่
+		 * เป็น {@link Date} ระหว่างอ่าน JSON String หรือไม่ (หากไม่แปลง
+		 * จะเก็บไว้เป็น String และแปลงเมื่อเรียกค่าเป็น {@link Date})
+		 */
+		public boolean dateParsing = true;
+		/**
+		 * Property สำหรับกำหนดว่าจะแปลง JSON Value ที่เป็นตัวเลขเป็น
+		 * {@link Integer}, {@link Long} หรือ {@link Double} ระหว่างอ่าน JSON
+		 * String หรือไม่ (หากไม่แปลงจะเก็บไว้เป็น {@link JSONNumber}
+		 * และแปลงเมื่อเรียกค่า) ทั้งนี้ตัวเลขที่แปลงแล้วจะสูญเสียค่า
+		 * จะถูกเก็บเป็น {@link JSONNumber} เสมอ
+		 */
+		public boolean numberParsing = true;
+		/**
+		 * Property สำหรับกำหนดว่าจะอ่าน JSON String แบบ lazy หรือไม่
+		 * โดยอ่านเฉพาะโครงสร้างระดับบนสุด ส่วน JSON Object และ JSON Array
+		 * ที่อยู่ภายในจะเก็บไว้เป็นช่วงของข้อมูลต้นฉบับ และอ่านเมื่อมีการเรียกใช้
+		 * ครั้งแรก ข้อมูลที่ไม่เคยถูกเรียกใช้จะถูกเขียนกลับตามต้นฉบับโดยไม่อ่าน
+		 * (ใช้ได้เฉพาะการอ่านจากข้อมูลที่อยู่ในหน่วยความจำทั้งหมด เช่น String
+		 * หรือ <code>byte[]</code>)
+		 */
+		public boolean lazyParsing;
+		/**
+		 * Property สำหรับกำหนดจำนวน Thread สูงสุดที่ใช้อ่าน JSON Array
+		 * ระดับบนสุดแบบขนาน
+		 * ({@link java.util.concurrent.ForkJoinPool#commonPool()})
+		 * โดยค่าน้อยกว่า 2 หมายถึงอ่านตามลำดับ
+		 * (ใช้ได้เฉพาะการอ่านจากข้อมูลที่อยู่ในหน่วยความจำทั้งหมด)
+		 */
+		public int parallelism;
+		/**
+		 * Property สำหรับกำหนดขนาดขั้นต่ำของข้อมูล (จำนวนตัวอักษรหรือ byte)
+		 * ที่จะอ่านแบบขนานตาม {@link #parallelism}
+		 */
+		public int parallelThreshold = 1 << 20;
+		/**
+		 * Property สำหรับกำหนด path ของข้อมูลที่ต้องการอ่าน
+		 * (ข้อมูลส่วนอื่นจะถูกอ่านข้ามโดยไม่เก็บไว้) หรือ null หากต้องการอ่าน
+		 * ข้อมูลทั้งหมด
+		 */
+		public JSONProjection projection;
+		/**
+		 * Property สำหรับกำหนดว่าจะเก็บ JSON String ของแต่ละ JSON Object
+		 * และ JSON Array ที่เขียนแล้วไว้ใช้ซ้ำหรือไม่ โดยจะถูกล้างเมื่อข้อมูล
+		 * ถูกเปลี่ยนแปลงผ่าน {@link JSON} หรือ Iterator ของ {@link JSON}
+		 * ตลอดทางจนถึง JSON ระดับบนสุด (การแก้ไข {@link Data}
+		 * โดยตรง หรือข้อมูลที่ใช้ร่วมกันระหว่างหลาย {@link JSON}
+		 * จะไม่ล้าง JSON String ที่เก็บไว้)
+		 */
+		public boolean outputCaching;
 
 		@Override
 		public Props clone() {
@@ -249,6 +331,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 						return getValue();
 					} finally {
 						entry.setValue(value == null ? null : value.data);
+						if (data != null) touch(data);
 					}
 				}
 			}
@@ -261,6 +344,11 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 			 * Attribute สำหรับจดจำ Properties ของ JSON Object
 			 */
 			private final Props props;
+			/**
+			 * Attribute สำหรับจดจำ {@link JSON.Data} ของ JSON Object (null
+			 * หากไม่ทราบ)
+			 */
+			private final Data data;
 
 			/**
 			 * Constructor สำหรับสร้างตัว Iterator ของ JSON Object
@@ -274,9 +362,42 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 			 */
 			public ObjIt(Map<String, Data> object, Props props)
 					throws NullPointerException {
+				this(object, props, null);
+			}
+
+			/**
+			 * Constructor สำหรับสร้างตัว Iterator ของ JSON Object
+			 * ที่ล้าง JSON String ที่เก็บไว้ของ data เมื่อข้อมูลถูกเปลี่ยนแปลง
+			 *
+			 * @param data
+			 *            {@link JSON.Data} ของ JSON Object
+			 * @param props
+			 *            Properties ของ JSON Object
+			 * @throws NullPointerException
+			 *             data หรือ props เป็น null
+			 */
+			public ObjIt(Data data, Props props) throws NullPointerException {
+				this(data.object, props, data);
+			}
+
+			/**
+			 * Constructor สำหรับสร้างตัว Iterator ของ JSON Object
+			 *
+			 * @param object
+			 *            Map ของ JSON Object สำหรับนำไปสร้างตัว Iterator
+			 * @param props
+			 *            Properties ของ JSON Object
+			 * @param data
+			 *            {@link JSON.Data} ของ JSON Object หรือ null
+			 * @throws NullPointerException
+			 *             object หรือ props เป็น null
+			 */
+			private ObjIt(Map<String, Data> object, Props props, Data data)
+					throws NullPointerException {
 				if ((this.props = props) == null)
 					throw new NullPointerException();
 				iterator = object.entrySet().iterator();
+				this.data = data;
 			}
 
 			@Override
@@ -292,6 +413,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 			@Override
 			public void remove() {
 				iterator.remove();
+				if (data != null) touch(data);
 			}
 		}
 
@@ -351,7 +473,8 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 						return getValue();
 					} finally {
 						this.value = value == null ? null : value.data;
-						array.set(i, this.value);
+						array.set(index, this.value);
+						if (data != null) touch(data);
 					}
 				}
 			}
@@ -368,6 +491,11 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 			 * Attribute สำหรับจดจำ Properties ของ JSON Array
 			 */
 			private final Props props;
+			/**
+			 * Attribute สำหรับจดจำ {@link JSON.Data} ของ JSON Array (null
+			 * หากไม่ทราบ)
+			 */
+			private final Data data;
 
 			/**
 			 * Attribute สำหรับจดจำ Index ปัจจุบันของ Iterator
@@ -386,9 +514,42 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 			 */
 			public AryIt(List<Data> array, Props props)
 					throws NullPointerException {
+				this(array, props, null);
+			}
+
+			/**
+			 * Constructor สำหรับสร้างตัว Iterator ของ JSON Array
+			 * ที่ล้าง JSON String ที่เก็บไว้ของ data เมื่อข้อมูลถูกเปลี่ยนแปลง
+			 *
+			 * @param data
+			 *            {@link JSON.Data} ของ JSON Array
+			 * @param props
+			 *            Properties ของ JSON Array
+			 * @throws NullPointerException
+			 *             data หรือ props เป็น null
+			 */
+			public AryIt(Data data, Props props) throws NullPointerException {
+				this(data.array, props, data);
+			}
+
+			/**
+			 * Constructor สำหรับสร้างตัว Iterator ของ JSON Array
+			 *
+			 * @param array
+			 *            List ของ JSON Array สำหรับนำไปสร้างตัว Iterator
+			 * @param props
+			 *            Properties ของ JSON Array
+			 * @param data
+			 *            {@link JSON.Data} ของ JSON Array หรือ null
+			 * @throws NullPointerException
+			 *             array หรือ props เป็น null
+			 */
+			private AryIt(List<Data> array, Props props, Data data)
+					throws NullPointerException {
 				if ((this.props = props) == null)
 					throw new NullPointerException();
 				iterator = (this.array = array).iterator();
+				this.data = data;
 			}
 
 			@Override
@@ -410,6 +571,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 			public void remove() {
 				iterator.remove();
 				i--;
+				if (data != null) touch(data);
 			}
 
 		}
@@ -507,9 +669,82 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		}
 
 		/**
-		 * Field สำหรับ เก็บ Regex สำหรับ Date Format
+		 * ตารางของข้อความที่ใช้แทนตัวอักษร ASCII ที่ต้อง escape ใน JSON
+		 * String (null หากไม่ต้อง escape)
+		 */
+		private static final String[] ESCAPES = new String[128];
+		/**
+		 * ค่าแทน Field ของ Java Object ที่ไม่มีค่าสำหรับเขียนเป็น JSON
+		 */
+		private static final Object ABSENT = new Object();
+
+		static {
+			for (int c = 0; c < ' '; c++) {
+				ESCAPES[c] = String.format("\\u%04x", c);
+			}
+			ESCAPES['\b'] = "\\b";
+			ESCAPES['\f'] = "\\f";
+			ESCAPES['\n'] = "\\n";
+			ESCAPES['\r'] = "\\r";
+			ESCAPES['\t'] = "\\t";
+			ESCAPES['\\'] = "\\\\";
+		}
+
+		/**
+		 * Regex ตั้งต้นสำหรับ Date Format
+		 */
+		protected static final String DATE_REGEX = "(?:(\\d{4})-(\\d{1,2})-(\\d{1,2}))?(?:^|T| |$)(?:(\\d{1,2}):(\\d{1,2})(?::(\\d{1,2})([.]\\d{1,3})?)?)?(?:(Z)|([+-]\\d{1,2}(?::\\d{2})?))?";
+		/**
+		 * Field สำหรับ เก็บ Regex สำหรับ Date Format (หากเป็น
+		 * {@link #DATE_REGEX} จะตรวจสอบรูปแบบโดยไม่ใช้ Regex)
+		 */
+		protected String dateRegex = DATE_REGEX;
+		/**
+		 * Attribute สำหรับเก็บ {@link Pattern} ของ {@link #dateRegex}
+		 * ที่ compile แล้ว
+		 */
+		private Pattern datePattern;
+		/**
+		 * Attribute สำหรับเก็บ key ของ JSON Object ที่เข้ารหัสแล้ว
 		 */
-		protected String dateRegex = "(?:(\\d{4})-(\\d{1,2})-(\\d{1,2}))?(?:^|T| |$)(?:(\\d{1,2}):(\\d{1,2})(?::(\\d{1,2})([.]\\d{1,3})?)?)?(?:(Z)|([+-]\\d{1,2}(?::\\d{2})?))?";
+		private final KeyCache keys = new KeyCache(this);
+		/**
+		 * Attribute สำหรับเก็บแผนการแปลงระหว่าง Java Object กับ JSON Object
+		 * ของแต่ละ Class
+		 */
+		private final Binding.Cache bindings = new Binding.Cache(this);
+		/**
+		 * Attribute สำหรับจดจำว่า Class ลูกได้ override Method
+		 * ตรวจสอบและแปลงค่าของ JSON Value ({@link #isBooleanFormat(String)},
+		 * {@link #toBoolean(String)}, {@link #isNumberFormat(String)},
+		 * {@link #toNumber(String)} หรือ {@link #isNullFormat(String)})
+		 * หรือไม่ หากไม่ได้ override {@link #toValue(String, boolean, Props)}
+		 * จะตรวจสอบชนิดของค่าด้วย {@link Scalar} โดยตรง
+		 */
+		private final boolean formats = overrides(getClass(), "isBooleanFormat",
+				"toBoolean", "isNumberFormat", "toNumber", "isNullFormat");
+
+		/**
+		 * ตรวจสอบว่า Class ลูกของ {@link Util} ได้ override Method
+		 * ที่รับ String ตามชื่อที่ระบุหรือไม่
+		 *
+		 * @param type
+		 *            Class ที่ต้องการตรวจสอบ
+		 * @param names
+		 *            ชื่อของ Method
+		 * @return true หากมี Method ใดถูก override
+		 */
+		private static boolean overrides(Class<?> type, String... names) {
+			for (Class<?> c = type; c != Util.class; c = c.getSuperclass()) {
+				for (String name : names) {
+					try {
+						c.getDeclaredMethod(name, String.class);
+						return true;
+					} catch (NoSuchMethodException e) {}
+				}
+			}
+			return false;
+		}
 
 		/**
 		 * สำหรับแปลง DataType ของ Object ใดๆ เป็น DataType ที่ต้องการ
@@ -524,11 +759,34 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 * @throws ClassCastException
 		 *             ไม่สามารถแปลงค่า value เป็น DataType (T) ได้
 		 */
+		@SuppressWarnings("unchecked")
 		protected <T> T cast(Class<T> type, Object value)
 				throws ClassCastException {
+			if (type != null && value != null && (type.isInstance(value)
+					|| type.isPrimitive() && box(type) == value.getClass()))
+				return (T) value;
 			return Cast.$(type, value);
 		}
 
+		/**
+		 * เรียก Wrapper Class ของ primitive
+		 *
+		 * @param type
+		 *            primitive ที่ต้องการ
+		 * @return Wrapper Class ของ type
+		 */
+		private static Class<?> box(Class<?> type) {
+			if (type == long.class) return Long.class;
+			else if (type == int.class) return Integer.class;
+			else if (type == double.class) return Double.class;
+			else if (type == boolean.class) return Boolean.class;
+			else if (type == float.class) return Float.class;
+			else if (type == short.class) return Short.class;
+			else if (type == byte.class) return Byte.class;
+			else if (type == char.class) return Character.class;
+			return Void.class;
+		}
+
 		/**
 		 * Method สำหรับตรวจสอบ DataType ว่าเป็น DataType ของ JSON Value หรือไม่
 		 *
@@ -577,7 +835,9 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 * @return true หาก value อยู่ในรูปแบบของ {@link Number}
 		 */
 		protected boolean isNumberFormat(String value) {
-			return value != null && value.matches("(0|-?[1-9]\\d*)(\\.\\d+)?");
+			if (value == null) return false;
+			int kind = Scalar.kind(value);
+			return kind == Scalar.INTEGER || kind == Scalar.DECIMAL;
 		}
 
 		/**
@@ -593,12 +853,62 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 */
 		protected Number toNumber(String value)
 				throws NullPointerException, IllegalArgumentException {
-			Double number = new Double(value);
-			if (number.doubleValue() == number.intValue())
-				return number.intValue();
-			else if (number.doubleValue() == number.longValue())
-				return number.longValue();
-			else return number;
+			switch (Scalar.kind(value)) {
+			case Scalar.INTEGER:
+				return Scalar.narrow(Scalar.toLong(value));
+			case Scalar.DECIMAL:
+				return Scalar.exact(value)
+						? Scalar.narrow(Scalar.toDouble(value))
+						: new JSONNumber(value);
+			default:
+				return Scalar.narrow(Double.parseDouble(value));
+			}
+		}
+
+		/**
+		 * แปลง {@link Number} ให้เป็นชนิดของตัวเลขที่ต้องการ โดย
+		 * {@link BigDecimal} และ {@link BigInteger} ที่ได้จาก
+		 * {@link JSONNumber} จะไม่สูญเสียค่า
+		 *
+		 * @param value
+		 *            ค่าที่ต้องการแปลง
+		 * @param type
+		 *            ชนิดของตัวเลขที่ต้องการ (รวมถึง primitive)
+		 * @return ค่าของ value ตามชนิดที่ต้องการ หรือ value
+		 *         หาก type ไม่ใช่ชนิดของตัวเลขที่รู้จัก
+		 * @throws NullPointerException
+		 *             value หรือ type เป็น null
+		 */
+		protected Object toNumber(Number value, Class<?> type)
+				throws NullPointerException {
+			if (type.isInstance(value)) return value;
+			else if (type == Long.class || type == long.class)
+				return value.longValue();
+			else if (type == Integer.class || type == int.class)
+				return value.intValue();
+			else if (type == Double.class || type == double.class)
+				return value.doubleValue();
+			else if (type == Float.class || type == float.class)
+				return value.floatValue();
+			else if (type == Short.class || type == short.class)
+				return value.shortValue();
+			else if (type == Byte.class || type == byte.class)
+				return value.byteValue();
+			else if (type == BigDecimal.class) {
+				if (value instanceof JSONNumber)
+					return ((JSONNumber) value).toBigDecimal();
+				else if (value instanceof BigInteger)
+					return new BigDecimal((BigInteger) value);
+				else if (value instanceof Long || value instanceof Integer)
+					return BigDecimal.valueOf(value.longValue());
+				return new BigDecimal(value.toString());
+			} else if (type == BigInteger.class) {
+				if (value instanceof JSONNumber)
+					return ((JSONNumber) value).toBigInteger();
+				else if (value instanceof BigDecimal)
+					return ((BigDecimal) value).toBigInteger();
+				return BigInteger.valueOf(value.longValue());
+			} else return value;
 		}
 
 		/**
@@ -609,7 +919,9 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 * @return true หาก value อยู่ในรูปแบบของ {@link Boolean}
 		 */
 		protected boolean isBooleanFormat(String value) {
-			return value != null && value.matches("(?i)true|false");
+			if (value == null) return false;
+			int kind = Scalar.kind(value);
+			return kind == Scalar.TRUE || kind == Scalar.FALSE;
 		}
 
 		/**
@@ -638,8 +950,24 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 * @return true หาก value อยู่ในรูปแบบของ {@link Date}
 		 */
 		protected boolean isDateFormat(String value) {
-			return value != null && value.length() > 4
-					&& value.matches(dateRegex);
+			if (value == null || value.length() <= 4) return false;
+			else if (dateRegex == DATE_REGEX) return Scalar.date(value, null);
+			Matcher matcher = datePattern().matcher(value);
+			return matcher.matches()
+					&& (matcher.group(1) != null || matcher.group(4) != null);
+		}
+
+		/**
+		 * เรียก {@link Pattern} ของ {@link #dateRegex}
+		 *
+		 * @return {@link Pattern} ของ {@link #dateRegex}
+		 */
+		private Pattern datePattern() {
+			Pattern pattern = datePattern;
+			if (pattern == null || !pattern.pattern().equals(dateRegex)) {
+				datePattern = pattern = Pattern.compile(dateRegex);
+			}
+			return pattern;
 		}
 
 		/**
@@ -657,7 +985,13 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		protected Date toDate(String value)
 				throws NullPointerException, IllegalArgumentException {
 			// 1111-22-33 44:55:66.777(8|±99:99)
-			Matcher matcher = Pattern.compile(dateRegex).matcher(value);
+			if (dateRegex == DATE_REGEX) {
+				int[] fields = new int[8];
+				if (!Scalar.date(value, fields))
+					throw new IllegalArgumentException(value);
+				return toDate(value, fields);
+			}
+			Matcher matcher = datePattern().matcher(value);
 			if (!matcher.matches()
 					|| (matcher.group(1) == null && matcher.group(4) == null))
 				throw new IllegalArgumentException(value);
@@ -685,6 +1019,20 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 			return c.getTime();
 		}
 
+		/**
+		 * แปลงค่าให้เป็น {@link Date} จากส่วนต่างๆ ที่อ่านได้จาก
+		 * {@link Scalar#date(CharSequence, int[])} ด้วย {@link DateCodec}
+		 *
+		 * @param value
+		 *            ค่าที่ต้องการแปลงให้เป็น {@link Date}
+		 * @param fields
+		 *            ค่าของแต่ละส่วนของ value
+		 * @return ค่าของ value ในรูปแบบของ {@link Date}
+		 */
+		private Date toDate(String value, int[] fields) {
+			return new Date(DateCodec.toTime(value, fields));
+		}
+
 		/**
 		 * ตรวจสอบค่าว่าอยู่ในรูปแบบของ null หรือไม่
 		 *
@@ -693,7 +1041,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 * @return true หาก value อยู่ในรูปแบบของ null
 		 */
 		protected boolean isNullFormat(String value) {
-			return value == null || value.matches("null|undefined");
+			return value == null || Scalar.kind(value) == Scalar.NULL;
 		}
 
 		/**
@@ -776,74 +1124,158 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		}
 
 		/**
-		 * อ่านค่าจาก JSON String แล้วเก็บข้อมูลในรูปแบบของ JSON Object
+		 * แปลงค่าจาก JSON String ให้เป็น JSON Value โดยตรวจสอบชนิดของค่า
+		 * เพียงครั้งเดียวด้วย {@link Scalar#kind(CharSequence)} (หาก Class ลูก
+		 * override Method ตรวจสอบและแปลงค่า เช่น {@link #isNumberFormat(String)}
+		 * จะตรวจสอบและแปลงค่าผ่าน Method เหล่านั้นตามลำดับ boolean, ตัวเลข,
+		 * วันที่ และ null แทน)
 		 *
-		 * @param data
-		 *            {@link Map} ของ {@link JSON.Data} สำหรับการเก็บข้อมูล JSON
-		 *            Object
+		 * @param value
+		 *            ข้อความของ JSON Value
+		 * @param quoted
+		 *            true หาก value ถูกครอบด้วย Quotation Mark
 		 * @param props
 		 *            Properties ของ {@link JSON} Object
+		 * @return ค่าของ value ในรูปแบบของ JSON Value
+		 */
+		protected Object toValue(String value, boolean quoted, Props props) {
+			if (!quoted && formats) {
+				if (isBooleanFormat(value)) return toBoolean(value);
+				else if (isNumberFormat(value)) {
+					int kind = Scalar.kind(value);
+					return props.numberParsing || kind != Scalar.INTEGER
+							&& kind != Scalar.DECIMAL ? toNumber(value)
+									: new JSONNumber(value);
+				} else if (props.dateParsing && isDateFormat(value))
+					return toDate(value);
+				else if (isNullFormat(value)) return null;
+				return value;
+			} else if (!quoted) {
+				switch (Scalar.kind(value)) {
+				case Scalar.TRUE:
+					return true;
+				case Scalar.FALSE:
+					return false;
+				case Scalar.NULL:
+					return null;
+				case Scalar.INTEGER:
+					return props.numberParsing
+							? Scalar.narrow(Scalar.toLong(value))
+							: new JSONNumber(value);
+				case Scalar.DECIMAL:
+					return props.numberParsing && Scalar.exact(value)
+							? Scalar.narrow(Scalar.toDouble(value))
+							: new JSONNumber(value);
+				}
+			}
+			return props.dateParsing && isDateFormat(value) ? toDate(value)
+					: value;
+		}
+
+		/**
+		 * อ่านค่าจาก JSON String แล้วเก็บข้อมูลในรูปแบบของ JSON
+		 *
 		 * @param value
 		 *            ข้อมูล JSON String
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
 		 * @throws NullPointerException
-		 *             data, props หรือ value เป็น null
+		 *             props หรือ value เป็น null
 		 * @throws IllegalArgumentException
-		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON Object ได้
+		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
 		 */
-		protected void parse(Map<String, Data> data, Props props, String value)
+		protected Data parse(String value, Props props)
 				throws NullPointerException, IllegalArgumentException {
-			if (!(value = value.trim()).isEmpty()) {
-				char c0 = value.charAt(0);
-				if (c0 == '\'' || c0 == '"') {
-					Matcher m = Pattern.compile("[^\\\\]" + c0).matcher(value);
-					if (m.find()) {
-						int pocl = value.indexOf(':', m.end());
-						if (value.substring(m.end(), pocl).trim().isEmpty()) {
-							String key = value.substring(1, m.end() - 1)
-									.replace("\\" + c0, c0 + "");
-							String subval = value.substring(pocl + 1);
-							data.put(key, parse(subval, props));
-							return;
-						}
-					}
-				} else {
-					String[] split = value.split(":", 2);
-					if (!(split[0] = split[0].trim()).isEmpty()) {
-						data.put(split[0], parse(split[1], props));
-						return;
-					}
-				}
-				throw new IllegalArgumentException(value);
+			try {
+				return new Parser(this, props,
+						new Source.Chars(value.toCharArray())).document();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
 			}
 		}
 
 		/**
-		 * อ่านค่าจาก JSON String แล้วเก็บข้อมูลในรูปแบบของ JSON Array
+		 * อ่านค่าจาก {@link Reader} แล้วเก็บข้อมูลในรูปแบบของ JSON
+		 * โดยอ่านข้อมูลผ่าน buffer ขนาดคงที่
 		 *
-		 * @param data
-		 *            {@link List} ของ {@link JSON.Data} สำหรับการเก็บข้อมูล
-		 *            JSON Array
+		 * @param value
+		 *            {@link Reader} ของข้อมูล JSON String
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
+		 * @throws NullPointerException
+		 *             props หรือ value เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+		 */
+		protected Data parse(Reader value, Props props)
+				throws NullPointerException,
+				IllegalArgumentException,
+				IOException {
+			return new Parser(this, props,
+					new Source.Chars(value, JSONReader.BUFFER_SIZE)).document();
+		}
+
+		/**
+		 * อ่านค่าจาก {@link InputStream} แล้วเก็บข้อมูลในรูปแบบของ JSON
+		 * โดยอ่านข้อมูลแบบ byte ผ่าน buffer ขนาดคงที่ และตรวจสอบการเข้ารหัส
+		 * (UTF-8, UTF-16 หรือ UTF-32) จาก Byte Order Mark หรือ byte
+		 * แรกของข้อมูล
+		 *
+		 * @param value
+		 *            {@link InputStream} ของข้อมูล JSON String
 		 * @param props
 		 *            Properties ของ {@link JSON} Object
+		 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
+		 * @throws NullPointerException
+		 *             props หรือ value เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+		 */
+		protected Data parse(InputStream value, Props props)
+				throws NullPointerException,
+				IllegalArgumentException,
+				IOException {
+			return new Parser(this, props,
+					Source.of(value, JSONReader.BUFFER_SIZE)).document();
+		}
+
+		/**
+		 * อ่านค่าจาก {@link ByteBuffer} (ตั้งแต่ position ถึง limit)
+		 * แล้วเก็บข้อมูลในรูปแบบของ JSON โดยอ่านข้อมูลแบบ byte
+		 * และแปลงเป็น String เฉพาะข้อความที่ต้องการเท่านั้น
+		 *
 		 * @param value
 		 *            ข้อมูล JSON String
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
 		 * @throws NullPointerException
-		 *             data, props หรือ value เป็น null
+		 *             props หรือ value เป็น null
 		 * @throws IllegalArgumentException
-		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON Array ได้
+		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
 		 */
-		protected void parse(List<Data> data, Props props, String value)
+		protected Data parse(ByteBuffer value, Props props)
 				throws NullPointerException, IllegalArgumentException {
-			if (!(value = value.trim()).isEmpty()) {
-				data.add(parse(value, props));
+			try {
+				return new Parser(this, props, Source.of(value)).document();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
 			}
 		}
 
 		/**
-		 * อ่านค่าจาก JSON String แล้วเก็บข้อมูลในรูปแบบของ JSON
+		 * อ่านค่าจากไฟล์แล้วเก็บข้อมูลในรูปแบบของ JSON โดยอ่านข้อมูลผ่าน
+		 * memory-mapped region ของไฟล์ทีละช่วง ทำให้ไม่ต้องอ่านไฟล์ทั้งหมดเข้า
+		 * heap และรองรับไฟล์ที่มีขนาดเกิน 2 GB
 		 *
 		 * @param value
-		 *            ข้อมูล JSON String
+		 *            ไฟล์ของข้อมูล JSON String
 		 * @param props
 		 *            Properties ของ {@link JSON} Object
 		 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
@@ -851,83 +1283,17 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 *             props หรือ value เป็น null
 		 * @throws IllegalArgumentException
 		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+		 * @throws IOException
+		 *             ไม่สามารถอ่านไฟล์ value ได้
 		 */
-		protected Data parse(String value, Props props)
-				throws NullPointerException, IllegalArgumentException {
-			Data data = newData();
-			char[] chars = value.trim().toCharArray();
-			int lv = 0;
-			int mark = 0;
-			for (int i = 0, l = chars.length; i < l; i++) {
-				if (chars[i] == '\'' || chars[i] == '"') {
-					try {
-						for (char token = chars[i]; chars[++i] != token;) {
-							if (chars[i] == '\\') {
-								i++;
-							}
-						}
-					} catch (IndexOutOfBoundsException e) {
-						throw new IllegalArgumentException(value);
-					}
-				}
-				if (chars[i] == '[' || chars[i] == '{') {
-					if (lv++ == 0) {
-						mark = i + 1;
-						if (chars[i] == '[') {
-							data.array = newArray(1);
-						} else {
-							data.object = newObject();
-						}
-					}
-				} else if (chars[i] == ']' || chars[i] == '}') {
-					if (--lv == 0) {
-						for (int j = i + 1; j < l; j++) {
-							char c = chars[j];
-							if (c != ' ' && c != '\r' && c != '\n')
-								throw new IllegalArgumentException(value);
-						}
-						try {
-							String subval = value.substring(mark, i);
-							if (chars[i] == ']') {
-								parse(data.array, props, subval);
-							} else {
-								parse(data.object, props, subval);
-							}
-						} catch (NullPointerException e) {
-							throw new IllegalArgumentException(value);
-						}
-					}
-				} else if (lv == 1 && chars[i] == ',') {
-					if (data.array != null) {
-						parse(data.array, props, value.substring(mark, i));
-					} else {
-						parse(data.object, props, value.substring(mark, i));
-					}
-					mark = i + 1;
-				} else if (i == l - 1) {
-					if (chars[i] == '\'' || chars[i] == '"') {
-						if (chars[i] != chars[0])
-							throw new IllegalArgumentException(value);
-						String pure = value.substring(1, i)
-								.replace("\\" + chars[i], chars[i] + "");
-						if (isDateFormat(pure)) {
-							data.value = toDate(pure);
-						} else {
-							data.value = pure;
-						}
-					} else if (isBooleanFormat(value)) {
-						data.value = toBoolean(value);
-					} else if (isNumberFormat(value)) {
-						data.value = toNumber(value);
-					} else if (isDateFormat(value)) {
-						data.value = toDate(value);
-					} else if (!isNullFormat(value)) {
-						data.value = value;
-					}
-				}
+		protected Data parse(Path value, Props props)
+				throws NullPointerException,
+				IllegalArgumentException,
+				IOException {
+			try (Source source = Source.of(new Source.Mapped(FileChannel.open(
+					value, StandardOpenOption.READ)), JSONReader.BUFFER_SIZE)) {
+				return new Parser(this, props, source).document();
 			}
-			if (lv != 0) throw new IllegalArgumentException(value);
-			return data;
 		}
 
 		/**
@@ -949,25 +1315,22 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 				data.value = value;
 			} else {
 				data.object = newObject();
-				for (Class<?> clazz : new Hierarchy<>(value.getClass())) {
-					for (Field field : clazz.getDeclaredFields()) {
-						try {
-							if (!field.isAccessible()) {
-								field.setAccessible(true);
-							}
-							Object fVal = field.get(value);
-							if (fVal == null && props.ignoreNullField) {
-								continue;
-							}
-							Data dVal = newData();
-							if (isJsonValueType(field.getType())) {
-								dVal.value = fVal;
-							} else {
-								set(dVal, props, fVal);
-							}
-							data.object.put(getJsonKey(props, field), dVal);
-						} catch (Throwable e) {}
-					}
+				for (Binding.Property property : bindings.get(value.getClass(),
+						props).properties) {
+					try {
+						Object fVal = property.get(value,
+								props.objectParsingHandles);
+						if (fVal == null && props.ignoreNullField) {
+							continue;
+						}
+						Data dVal = newData();
+						if (property.value) {
+							dVal.value = fVal;
+						} else {
+							set(dVal, props, fVal);
+						}
+						data.object.put(property.key, dVal);
+					} catch (Throwable e) {}
 				}
 			}
 			return data;
@@ -1121,22 +1484,19 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 				} else if (isJsonValueType(raw))
 					throw new ClassCastException("Is JSON Object.");
 				try {
-					T object = raw.newInstance();
-					for (Class<? extends T> clazz : new Hierarchy<>(raw)) {
-						for (Field field : clazz.getDeclaredFields()) {
+					Binding binding = bindings.get(raw, props);
+					T object = raw.cast(binding.newInstance(raw));
+					boolean handles = props.objectParsingHandles;
+					for (Binding.Property property : binding.properties) {
+						try {
 							try {
-								String key = getJsonKey(props, field);
-								if (!field.isAccessible()) {
-									field.setAccessible(true);
-								}
-								try {
-									field.set(object, get(data.object.get(key),
-											props, field.getGenericType()));
-								} catch (Throwable e) {
-									field.set(object, null);
-								}
-							} catch (Throwable e) {}
-						}
+								property.set(object, get(data.object.get(
+										property.key), props, property.type),
+										handles);
+							} catch (Throwable e) {
+								property.set(object, null, handles);
+							}
+						} catch (Throwable e) {}
 					}
 					return object;
 				} catch (Throwable e) {
@@ -1160,7 +1520,48 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 					}
 					return Cast.$(array);
 				} else throw new ClassCastException("Is JSON Array.");
-			} else return cast(raw, data.value);
+			} else return convert(data.value, raw);
+		}
+
+		/**
+		 * แปลงค่าของ JSON Value ไปเป็น Java Object DataType ที่ต้องการ
+		 *
+		 * @param <T>
+		 *            DataType ที่ต้องการ
+		 * @param value
+		 *            ค่าของ JSON Value
+		 * @param raw
+		 *            Class ของ DataType ที่ต้องการ หรือ null
+		 * @return value ในรูปแบบของ DataType (T)
+		 * @throws ClassCastException
+		 *             ไม่สามารถแปลงค่า value เป็น DataType (T) ได้
+		 */
+		protected <T> T convert(Object value, Class<T> raw)
+				throws ClassCastException {
+			if (raw != null && Date.class.isAssignableFrom(raw)
+					&& value instanceof String
+					&& isDateFormat((String) value)) {
+				return cast(raw, toDate((String) value));
+			} else if (raw != null && value instanceof Number) {
+				return cast(raw, toNumber((Number) value, raw));
+			} else return cast(raw, value);
+		}
+
+		/**
+		 * เรียกแผนการแปลงระหว่าง Java Object กับ JSON Object ของ Class
+		 * ที่ระบุ
+		 *
+		 * @param type
+		 *            Class ที่ต้องการ
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return {@link Binding} ของ type
+		 * @throws NullPointerException
+		 *             type หรือ props เป็น null
+		 */
+		Binding binding(Class<?> type, Props props)
+				throws NullPointerException {
+			return bindings.get(type, props);
 		}
 
 		/**
@@ -1294,6 +1695,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 *             data หรือ props เป็น null
 		 */
 		public Data setval(Data data, Props props, Object value) {
+			touch(data);
 			data.object = null;
 			data.array = null;
 			data.value = isJsonValue(value) ? value : value.toString();
@@ -1301,15 +1703,47 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		}
 
 		/**
-		 * กำหนดค่าให้กับข้อมูล {@link JSON} Object
+		 * คัดลอก Object {@link JSON.Data} รวมถึง JSON Object และ JSON Array
+		 * ที่อยู่ภายในทั้งหมด (ไม่รวม JSON String ที่เขียนไว้แล้ว)
 		 *
 		 * @param data
-		 *            Object {@link JSON.Data} สำหรับเก็บข้อมูล JSON
-		 * @param props
-		 *            Properties ของ {@link JSON} Object
-		 * @param value
-		 *            ข้อมูลที่ต้องการกำหนดให้กับ {@link JSON} Object
-		 * @return Data ที่ถูกกำหนดค่าเรียบร้อยแล้ว
+		 *            Object {@link JSON.Data} ที่ต้องการคัดลอก
+		 * @return Object {@link JSON.Data} ที่คัดลอกแล้ว
+		 * @throws NullPointerException
+		 *             data เป็น null
+		 */
+		protected Data copy(Data data) throws NullPointerException {
+			Data copy = newData();
+			if (data.object != null) {
+				copy.object = newObject();
+				for (Map.Entry<String, Data> entry : data.object.entrySet()) {
+					Data value = entry.getValue();
+					copy.object.put(entry.getKey(),
+							value == null ? null : copy(value));
+				}
+			} else if (data.array != null) {
+				copy.array = newArray(data.array.size());
+				for (Data element : data.array) {
+					copy.array.add(element == null ? null : copy(element));
+				}
+			} else copy.value = data.value;
+			return copy;
+		}
+
+		/**
+		 * กำหนดค่าให้กับข้อมูล {@link JSON} Object (หาก {@link JSON} Object
+		 * ต้นทางหรือปลายทางกำหนด {@link Props#outputCaching}
+		 * ข้อมูลของ {@link JSON} Object ต้นทางจะถูกคัดลอกด้วย
+		 * {@link #copy(Data)} เพื่อไม่ให้ JSON String
+		 * ที่เขียนไว้แล้วของทั้งสองฝั่งล้าสมัยเมื่ออีกฝั่งเปลี่ยนแปลง)
+		 *
+		 * @param data
+		 *            Object {@link JSON.Data} สำหรับเก็บข้อมูล JSON
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @param value
+		 *            ข้อมูลที่ต้องการกำหนดให้กับ {@link JSON} Object
+		 * @return Data ที่ถูกกำหนดค่าเรียบร้อยแล้ว
 		 * @throws NullPointerException
 		 *             data หรือ props เป็น null
 		 * @throws IllegalArgumentException
@@ -1317,13 +1751,18 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 */
 		public Data set(Data data, Props props, Object value)
 				throws NullPointerException, IllegalArgumentException {
+			touch(data);
 			if (value instanceof Data) {
 				data.object = ((Data) value).object;
 				data.array = ((Data) value).array;
 				data.value = ((Data) value).value;
-			} else if (value instanceof JSON)
-				return set(data, props, ((JSON) value).data);
-			else if (isJsonValue(value)) {
+			} else if (value instanceof JSON) {
+				JSON json = (JSON) value;
+				return set(data, props,
+						props.outputCaching || json.props.outputCaching
+								? copy(json.data)
+								: json.data);
+			} else if (isJsonValue(value)) {
 				if (value instanceof CharSequence && props.stringParsing)
 					return set(data, props, parse(value.toString(), props));
 				data.object = null;
@@ -1412,6 +1851,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 */
 		public Data set(Data data, Props props, Object key, Object value)
 				throws NullPointerException, IllegalArgumentException {
+			touch(data);
 			if (data.object != null) {
 				Data newData = newData(props, value);
 				data.object.put(toKey(key), newData);
@@ -1458,6 +1898,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		public Data add(Data data, Props props, Object value)
 				throws NullPointerException, IllegalArgumentException {
 			Data newData = newData(props, value);
+			touch(data);
 			if (data.array == null) {
 				if (data.object == null && data.value == null) {
 					data.array = newArray(1);
@@ -1514,6 +1955,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		public void append(Data data, Props props, Object value)
 				throws NullPointerException, IllegalArgumentException {
 			Data newData = newData(props, value);
+			touch(data);
 			if (data.object != null) {
 				if (newData.object != null) {
 					data.object.putAll(newData.object);
@@ -1601,129 +2043,1061 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		 */
 		public CharSequence buildString(Data data, Props props)
 				throws NullPointerException {
+			CharSequence raw = Lazy.raw(data, props);
+			if (raw != null) return raw;
+			StringBuilder builder = new StringBuilder();
+			try {
+				write(builder, data, props);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return builder;
+		}
+
+		/**
+		 * ล้าง JSON String ที่เก็บไว้ ({@link Props#outputCaching}) ของข้อมูล
+		 * ที่ถูกเปลี่ยนแปลงและของ JSON Object หรือ JSON Array ที่เก็บข้อมูลนั้น
+		 * ตลอดทางจนถึง JSON ระดับบนสุด
+		 *
+		 * @param data
+		 *            Object {@link JSON.Data} ที่ถูกเปลี่ยนแปลง
+		 * @throws NullPointerException
+		 *             data เป็น null
+		 */
+		protected void touch(Data data) throws NullPointerException {
+			data.output = null;
+			for (Data parent = data.parent; parent != null
+					&& parent.output != null; parent = parent.parent) {
+				parent.output = null;
+			}
+		}
+
+		/**
+		 * เขียน JSON String จากข้อมูลของ {@link JSON} Object ลงใน
+		 * {@link Appendable} โดยตรง โดยวนอ่านข้อมูลเพียงครั้งเดียว
+		 * และไม่สร้างข้อความของแต่ละ JSON Object หรือ JSON Array แยกไว้
+		 *
+		 * @param out
+		 *            ตัวเก็บผลลัพธ์
+		 * @param data
+		 *            Object {@link JSON.Data} สำหรับเก็บข้อมูล JSON
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @throws NullPointerException
+		 *             out, data หรือ props เป็น null
+		 * @throws IOException
+		 *             ไม่สามารถเขียนข้อมูลได้
+		 */
+		public void write(Appendable out, Data data, Props props)
+				throws NullPointerException, IOException {
+			CharSequence raw = Lazy.raw(data, props);
+			if (raw != null) {
+				out.append(raw);
+			} else if (data.object == null && data.array == null) {
+				writeValue(out, data.value, props);
+			} else if (props.outputCaching) {
+				int format = props.quote << 2 | (props.quoteOnKey ? 2 : 0)
+						| (props.quoteOnNonString ? 1 : 0);
+				if (data.output == null || data.outputFormat != format) {
+					StringBuilder builder = new StringBuilder();
+					writeMembers(builder, data, props);
+					data.output = builder.toString();
+					data.outputFormat = format;
+				}
+				out.append(data.output);
+			} else {
+				writeMembers(out, data, props);
+			}
+		}
+
+		/**
+		 * เขียน JSON String ของ JSON Object หรือ JSON Array
+		 * (สมาชิกที่เป็น JSON Object หรือ JSON Array จะถูกเก็บไว้ใช้ซ้ำหาก
+		 * {@link Props#outputCaching})
+		 *
+		 * @param out
+		 *            ตัวเก็บผลลัพธ์
+		 * @param data
+		 *            Object {@link JSON.Data} ของ JSON Object หรือ JSON Array
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @throws IOException
+		 *             ไม่สามารถเขียนข้อมูลได้
+		 */
+		private void writeMembers(Appendable out, Data data, Props props)
+				throws IOException {
+			boolean caching = props.outputCaching;
+			boolean first = true;
 			if (data.object != null) {
-				StringBuilder builder = new StringBuilder();
-				Pattern pattern = Pattern.compile("^\\d|\\W");
+				out.append('{');
 				for (Map.Entry<String, Data> entry : data.object.entrySet()) {
-					if (isNull(entry.getValue())) {
-						continue;
-					} else if (props.quoteOnKey
-							|| pattern.matcher(entry.getKey()).find()) {
-						builder.append(',').append(props.quote)
-								.append(entry.getKey()).append(props.quote);
-					} else {
-						builder.append(',').append(entry.getKey());
+					Data value = entry.getValue();
+					if (caching && value != null) {
+						value.parent = data;
 					}
-					builder.append(':').append(
-							buildString(entry.getValue(), props));
+					if (isNull(value)) continue;
+					else if (!first) {
+						out.append(',');
+					}
+					first = false;
+					writeKey(out, entry.getKey(), props);
+					write(out, value, props);
 				}
-				return builder.delete(0, 1).insert(0, '{').append('}');
-			} else if (data.array != null) {
-				StringBuilder builder = new StringBuilder();
+				out.append('}');
+			} else {
+				out.append('[');
 				for (Data element : data.array) {
-					builder.append(',').append(buildString(element, props));
+					if (caching && element != null) {
+						element.parent = data;
+					}
+					if (!first) {
+						out.append(',');
+					}
+					first = false;
+					write(out, element, props);
 				}
-				return builder.delete(0, 1).insert(0, '[').append(']');
-			} else if (data.value == null) return "null";
-			else if (data.value instanceof CharSequence
+				out.append(']');
+			}
+		}
+
+		/**
+		 * เขียน key ของ JSON Object พร้อม <code>':'</code> ต่อท้าย
+		 * จาก cache ของ key ที่เข้ารหัสแล้ว
+		 *
+		 * @param out
+		 *            ตัวเก็บผลลัพธ์
+		 * @param key
+		 *            key ของ JSON Object
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @throws IOException
+		 *             ไม่สามารถเขียนข้อมูลได้
+		 */
+		void writeKey(Appendable out, String key, Props props)
+				throws IOException {
+			KeyCache.Key encoded = keys.get(key, props);
+			if (out instanceof Output) {
+				((Output) out).write(encoded.bytes);
+			} else {
+				out.append(encoded.text);
+			}
+		}
+
+		/**
+		 * เขียน JSON String ของ JSON Value
+		 *
+		 * @param out
+		 *            ตัวเก็บผลลัพธ์
+		 * @param value
+		 *            ค่าของ JSON Value
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @throws IOException
+		 *             ไม่สามารถเขียนข้อมูลได้
+		 */
+		private void writeValue(Appendable out, Object value, Props props)
+				throws IOException {
+			if (value == null) {
+				out.append("null");
+			} else if (value instanceof CharSequence
 					|| props.quoteOnNonString) {
-				String value = data.value.toString()
-						.replace("" + props.quote, "\\" + props.quote);
-				return new StringBuilder().append(props.quote)
-						.append(value).append(props.quote);
-			} else if (data.value instanceof Date) {
-				String pattern = "\"yyyy-MM-dd'T'HH:mm:ss.SSSZ\"";
-				String value = new SimpleDateFormat(pattern, Locale.US)
-						.format(data.value);
-				return new StringBuilder(value).insert(27, ':');
-			} else return data.value.toString();
+				writeString(out, value instanceof CharSequence
+						? (CharSequence) value : value.toString(), props);
+			} else if (value instanceof Date) {
+				StringBuilder builder = new StringBuilder(31).append('"');
+				out.append(DateCodec.format(builder,
+						((Date) value).getTime()).append('"'));
+			} else if (out instanceof Output && (value instanceof Long
+					|| value instanceof Integer || value instanceof Short
+					|| value instanceof Byte)) {
+				((Output) out).write(((Number) value).longValue());
+			} else {
+				out.append(value.toString());
+			}
+		}
+
+		/**
+		 * เขียน JSON String ของข้อมูลใดๆ ลงใน {@link Appendable} โดยตรง
+		 * ตามการแปลงของ {@link #set(Data, Props, Object)} แล้วตามด้วย
+		 * {@link #write(Appendable, Data, Props)} โดยไม่สร้าง
+		 * {@link JSON.Data} ของแต่ละค่า (Java Object จะถูกอ่านค่าตาม
+		 * {@link Binding} ที่เก็บไว้)
+		 * <p>
+		 * ข้อความที่ถูกแปลงเป็น JSON ({@link Props#stringParsing}) ภายใน
+		 * Map, Collection หรือ Array ที่แปลงไม่ได้จะโยน
+		 * {@link IllegalArgumentException} ออกไป (ข้อมูลบางส่วนอาจถูกเขียน
+		 * ไปแล้ว) แทนที่จะข้าม Field ของ Java Object ที่เก็บค่านั้น
+		 * </p>
+		 *
+		 * @param out
+		 *            ตัวเก็บผลลัพธ์
+		 * @param value
+		 *            ข้อมูลที่ต้องการเขียน
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @throws NullPointerException
+		 *             out หรือ props เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+		 * @throws IOException
+		 *             ไม่สามารถเขียนข้อมูลได้
+		 */
+		public void writeObject(Appendable out, Object value, Props props)
+				throws NullPointerException, IllegalArgumentException,
+				IOException {
+			if (value instanceof Data) {
+				write(out, (Data) value, props);
+			} else if (value instanceof JSON) {
+				write(out, ((JSON) value).data, props);
+			} else if (isJsonValue(value)) {
+				if (value instanceof CharSequence && props.stringParsing) {
+					write(out, parse(value.toString(), props), props);
+				} else writeValue(out, value, props);
+			} else if (value instanceof Object[]) {
+				out.append('[');
+				Object[] array = (Object[]) value;
+				for (int i = 0; i < array.length; i++) {
+					if (i > 0) {
+						out.append(',');
+					}
+					writeObject(out, array[i], props);
+				}
+				out.append(']');
+			} else if (value.getClass().isArray()) {
+				out.append('[');
+				for (int i = 0, length = Array.getLength(value); i < length;
+						i++) {
+					if (i > 0) {
+						out.append(',');
+					}
+					writeObject(out, Array.get(value, i), props);
+				}
+				out.append(']');
+			} else if (value instanceof Iterable)
+				writeObject(out, ((Iterable<?>) value).iterator(), props);
+			else if (value instanceof Iterator) {
+				out.append('[');
+				for (Iterator<?> i = (Iterator<?>) value; i.hasNext();) {
+					writeObject(out, i.next(), props);
+					if (i.hasNext()) {
+						out.append(',');
+					}
+				}
+				out.append(']');
+			} else if (value instanceof Map) {
+				boolean first = true;
+				out.append('{');
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					Object member = member(entry.getValue(), props);
+					if (member == null) continue;
+					else if (!first) {
+						out.append(',');
+					}
+					first = false;
+					writeKey(out, toKey(entry.getKey()), props);
+					writeObject(out, member, props);
+				}
+				out.append('}');
+			} else if (value == Object.class
+					|| value.getClass() == Object.class) {
+				out.append("{}");
+			} else if (value == Object[].class || value == Array.class) {
+				out.append("[]");
+			} else if (value instanceof Enum) {
+				writeValue(out, ((Enum<?>) value).name(), props);
+			} else if (props.objectParsing) {
+				writeFields(out, value, props);
+			} else {
+				writeValue(out, value.toString(), props);
+			}
+		}
+
+		/**
+		 * เขียน JSON Object ของ Field ใน Java Object ตาม {@link Binding}
+		 * ที่เก็บไว้ (ตามการแปลงของ {@link #parse(Object, Props)}) โดย Field
+		 * ที่ใช้ JSON Key ซ้ำกันจะถูกเขียน ณ ตำแหน่งของ Field แรกที่มีค่า
+		 * ด้วยค่าของ Field สุดท้ายที่มีค่า
+		 *
+		 * @param out
+		 *            ตัวเก็บผลลัพธ์
+		 * @param value
+		 *            Java Object ที่ต้องการเขียน
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @throws IOException
+		 *             ไม่สามารถเขียนข้อมูลได้
+		 */
+		private void writeFields(Appendable out, Object value, Props props)
+				throws IOException {
+			Binding binding = bindings.get(value.getClass(), props);
+			Binding.Property[] properties = binding.properties;
+			boolean first = true;
+			out.append('{');
+			for (int i = 0; i < properties.length; i++) {
+				Binding.Property property = properties[i];
+				if (!binding.unique) {
+					int[] same = binding.lookup(property.key);
+					if (same.length > 1) {
+						int last = last(properties, same, i, value, props);
+						if (last < 0) continue;
+						property = properties[last];
+					}
+				}
+				Object member = member(property, value, props);
+				if (member == null || member == ABSENT) continue;
+				else if (!first) {
+					out.append(',');
+				}
+				first = false;
+				writeKey(out, property.key, props);
+				if (property.value) {
+					writeValue(out, member, props);
+				} else writeObject(out, member, props);
+			}
+			out.append('}');
+		}
+
+		/**
+		 * อ่านค่าของ Field ใน Java Object สำหรับเขียนเป็นสมาชิกของ JSON Object
+		 *
+		 * @param property
+		 *            Field ที่ต้องการอ่านค่า
+		 * @param object
+		 *            Java Object ที่ต้องการอ่านค่า
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return ค่าของ Field (null หากเป็น JSON Null) หรือ {@link #ABSENT}
+		 *         หากไม่มีค่า (อ่านค่าไม่ได้ หรือเป็น null และ
+		 *         {@link Props#ignoreNullField})
+		 */
+		private Object member(Binding.Property property, Object object,
+				Props props) {
+			try {
+				Object value = property.get(object,
+						props.objectParsingHandles);
+				if (value == null && props.ignoreNullField)
+					return ABSENT;
+				return property.value ? value : member(value, props);
+			} catch (Throwable e) {
+				return ABSENT;
+			}
+		}
+
+		/**
+		 * ค้นหา Field ที่ใช้เขียนสมาชิกของ JSON Object ณ ตำแหน่งของ Field
+		 * ที่ระบุ จาก Field ที่ใช้ JSON Key ซ้ำกัน
+		 *
+		 * @param properties
+		 *            Field ที่ใช้งานทั้งหมด
+		 * @param same
+		 *            ลำดับของ Field ที่ใช้ JSON Key เดียวกัน
+		 * @param index
+		 *            ลำดับของ Field ปัจจุบัน
+		 * @param object
+		 *            Java Object ที่ต้องการอ่านค่า
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return ลำดับของ Field สุดท้ายที่มีค่า หรือ -1 หาก Field
+		 *         แรกที่มีค่าไม่ใช่ Field ปัจจุบัน
+		 */
+		private int last(Binding.Property[] properties, int[] same, int index,
+				Object object, Props props) {
+			int last = -1;
+			for (int i : same) {
+				if (member(properties[i], object, props) == ABSENT) continue;
+				else if (last < 0 && i != index) return -1;
+				last = i;
+			}
+			return last;
+		}
+
+		/**
+		 * แปลงค่าสำหรับเขียนเป็นสมาชิกของ JSON Object โดยแปลงข้อความเป็น JSON
+		 * ก่อน ({@link Props#stringParsing}) เพื่อให้ข้ามสมาชิกที่เป็น JSON
+		 * Null ได้ก่อนเขียน key
+		 *
+		 * @param value
+		 *            ค่าของสมาชิก
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return ค่าที่ใช้เขียน หรือ null หากเป็น JSON Null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถแปลงข้อความเป็น JSON ได้
+		 */
+		private Object member(Object value, Props props)
+				throws IllegalArgumentException {
+			if (value instanceof JSON) {
+				value = ((JSON) value).data;
+			} else if (value instanceof CharSequence && props.stringParsing) {
+				value = parse(value.toString(), props);
+			}
+			return value instanceof Data && isNull((Data) value) ? null
+					: value;
+		}
+
+		/**
+		 * เขียนข้อความเป็น JSON String (ครอบด้วย {@link Props#quote})
+		 * โดย escape ตัวอักษรควบคุม <code>'\\'</code> และ
+		 * {@link Props#quote} ด้วยตารางของข้อความที่ใช้แทน และเขียนช่วงที่ไม่ต้อง
+		 * escape ต่อท้ายในครั้งเดียว
+		 *
+		 * @param out
+		 *            ตัวเก็บผลลัพธ์
+		 * @param value
+		 *            ข้อความที่ต้องการเขียน
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @throws NullPointerException
+		 *             out, value หรือ props เป็น null
+		 * @throws IOException
+		 *             ไม่สามารถเขียนข้อมูลได้
+		 */
+		protected void writeString(Appendable out, CharSequence value,
+				Props props) throws NullPointerException, IOException {
+			char quote = props.quote;
+			int start = 0, length = value.length();
+			out.append(quote);
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				if (c < ESCAPES.length ? ESCAPES[c] == null && c != quote
+						: c != quote)
+					continue;
+				out.append(value, start, i);
+				if (c == quote) {
+					out.append('\\').append(c);
+				} else out.append(ESCAPES[c]);
+				start = i + 1;
+			}
+			if (start == 0) {
+				out.append(value);
+			} else out.append(value, start, length);
+			out.append(quote);
+		}
+
+		/**
+		 * เข้ารหัส key ของ JSON Object พร้อม <code>':'</code> ต่อท้าย
+		 * (ผลลัพธ์จะถูกเก็บไว้ใน cache จึงต้องขึ้นกับ key และ
+		 * {@link Props#quote} กับ {@link Props#quoteOnKey} เท่านั้น)
+		 *
+		 * @param key
+		 *            key ของ JSON Object (null จะถูกเขียนเป็น
+		 *            <code>null</code>)
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return key ที่เข้ารหัสแล้ว
+		 * @throws NullPointerException
+		 *             props เป็น null
+		 */
+		protected String encodeKey(String key, Props props)
+				throws NullPointerException {
+			if (key == null) {
+				key = "null";
+			}
+			if (!props.quoteOnKey && !isQuotedKey(key)) return key + ':';
+			StringBuilder builder = new StringBuilder(key.length() + 3);
+			try {
+				writeString(builder, key, props);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return builder.append(':').toString();
+		}
+
+		/**
+		 * ตรวจสอบว่า key ของ JSON Object ต้องครอบด้วย Quotation Mark หรือไม่
+		 * (ขึ้นต้นด้วยตัวเลข หรือมีตัวอักษรที่ไม่ใช่ <code>[a-zA-Z_0-9]</code>)
+		 *
+		 * @param key
+		 *            key ของ JSON Object
+		 * @return true หาก key ต้องครอบด้วย Quotation Mark
+		 */
+		protected boolean isQuotedKey(String key) {
+			int length = key.length();
+			if (length > 0 && key.charAt(0) >= '0' && key.charAt(0) <= '9')
+				return true;
+			for (int i = 0; i < length; i++) {
+				char c = key.charAt(i);
+				if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')
+						&& (c < '0' || c > '9') && c != '_')
+					return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Method สำหรับตรวจสอบว่า {@link JSON} Object
+		 * ที่ระบุมีค่าเท่ากันหรือไม่
+		 *
+		 * @param value1
+		 *            ที่ระบุ 1
+		 * @param value2
+		 *            ที่ระบุ 2
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return true หาก <code>value1</code> และ <code>value1</code>
+		 *         มีค่าเท่ากัน
+		 * @throws NullPointerException
+		 *             <code>props</code> เป็น null
+		 */
+		public boolean equals(Data value1, Data value2, Props props)
+				throws NullPointerException {
+			if (value1 == value2) return true;
+			else if (value1 == null || value2 == null) return false;
+			else if (value1.object != null)
+				return value1.object.equals(value2.object);
+			else if (value1.array != null)
+				return value1.array.equals(value2.array);
+			else if (value1.value != null)
+				return value1.value.equals(value2.value);
+			else return value2.object == null
+					&& value2.array == null
+					&& value2.value == null;
+
+		}
+
+		/**
+		 * Method สำหรับ Generate Hash Code ให้กับ {@link JSON} Object ที่ระบ
+		 *
+		 * @param value
+		 *            ค่าที่ต้องการ Generate Hash Code
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return Hash Code
+		 * @throws NullPointerException
+		 *             <code>value</code> หรือ <code>props</code> เป็น null
+		 */
+		public int hashCode(Data value, Props props)
+				throws NullPointerException {
+			if (value.object != null) return value.hashCode();
+			else if (value.array != null) return value.array.hashCode();
+			else if (value.value != null) return value.value.hashCode();
+			else return 0;
+		}
+
+		/**
+		 * สร้าง {@link Iterator} สำหรับ {@link JSON} Object
+		 *
+		 * @param data
+		 *            Object {@link JSON.Data} สำหรับเก็บข้อมูล JSON
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @return Iterator ของข้อมูล JSON
+		 * @throws NullPointerException
+		 *             data หรือ props เป็น null
+		 */
+		public Iterator<JSON.Entry> iterator(Data data, Props props)
+				throws NullPointerException {
+			if (data.object != null) return new ObjIt(data, props);
+			else if (data.array != null) return new AryIt(data, props);
+			else return new ValIt(data, props);
 		}
+	}
+
+	/**
+	 * Field สำหรับ {@link Serializable}
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Function สำหรับเรียกค่า {@link JSON} จาก String ที่ระบุ
+	 *
+	 * @param value
+	 *            JSON String
+	 * @return {@link JSON} จาก <code>value</code> ที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	public static JSON valueOf(String value) throws IllegalArgumentException {
+		return new JSON(value);
+	}
+
+	/**
+	 * Function สำหรับเรียกค่า {@link JSON} จากข้อมูล byte ที่ระบุ
+	 * โดยตรวจสอบการเข้ารหัสจาก Byte Order Mark หรือ byte แรกของข้อมูล
+	 *
+	 * @param value
+	 *            JSON String ที่เข้ารหัสแบบ UTF-8, UTF-16 หรือ UTF-32
+	 * @return {@link JSON} จาก <code>value</code> ที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	public static JSON valueOf(byte[] value) throws IllegalArgumentException {
+		return valueOf(ByteBuffer.wrap(value));
+	}
+
+	/**
+	 * Function สำหรับเรียกค่า {@link JSON} จากข้อมูล byte ตั้งแต่ position
+	 * ถึง limit ของ {@link ByteBuffer} ที่ระบุ
+	 *
+	 * @param value
+	 *            JSON String ที่เข้ารหัสแบบ UTF-8, UTF-16 หรือ UTF-32
+	 * @return {@link JSON} จาก <code>value</code> ที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @see #valueOf(byte[])
+	 */
+	public static JSON valueOf(ByteBuffer value)
+			throws IllegalArgumentException {
+		Props props = new Props();
+		return new JSON(util().parse(value, props), props);
+	}
+
+	/**
+	 * Function สำหรับเรียกค่า {@link JSON} จากไฟล์ที่ระบุ โดยอ่านข้อมูลผ่าน
+	 * memory-mapped region ของไฟล์ (รองรับไฟล์ที่มีขนาดเกิน 2 GB)
+	 *
+	 * @param value
+	 *            ไฟล์ของ JSON String
+	 * @return {@link JSON} จาก <code>value</code> ที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws IOException
+	 *             ไม่สามารถอ่านไฟล์ value ได้
+	 * @see #valueOf(byte[])
+	 */
+	public static JSON valueOf(Path value)
+			throws IllegalArgumentException, IOException {
+		Props props = new Props();
+		return new JSON(util().parse(value, props), props);
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String แล้วส่ง Event ให้กับ
+	 * {@link JSONHandler} โดยไม่สร้าง {@link JSON}
+	 *
+	 * @param value
+	 *            JSON String
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	public static void parse(String value, JSONHandler handler)
+			throws IllegalArgumentException {
+		try {
+			new Parser(util(), new Props(),
+					new Source.Chars(value.toCharArray())).parse(handler);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String จาก {@link Reader} ผ่าน buffer
+	 * ขนาดคงที่ แล้วส่ง Event ให้กับ {@link JSONHandler} โดยไม่สร้าง
+	 * {@link JSON}
+	 *
+	 * @param value
+	 *            {@link Reader} ของ JSON String
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 */
+	public static void parse(Reader value, JSONHandler handler)
+			throws IllegalArgumentException, IOException {
+		new Parser(util(), new Props(),
+				new Source.Chars(value, JSONReader.BUFFER_SIZE)).parse(handler);
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String จาก {@link InputStream} แบบ byte
+	 * ผ่าน buffer ขนาดคงที่ แล้วส่ง Event ให้กับ {@link JSONHandler}
+	 * โดยตรวจสอบการเข้ารหัสจาก Byte Order Mark หรือ byte แรกของข้อมูล
+	 *
+	 * @param value
+	 *            {@link InputStream} ของ JSON String
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 */
+	public static void parse(InputStream value, JSONHandler handler)
+			throws IllegalArgumentException, IOException {
+		new Parser(util(), new Props(),
+				Source.of(value, JSONReader.BUFFER_SIZE)).parse(handler);
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String จากข้อมูล byte ตั้งแต่ position
+	 * ถึง limit ของ {@link ByteBuffer} แล้วส่ง Event ให้กับ
+	 * {@link JSONHandler}
+	 *
+	 * @param value
+	 *            JSON String ที่เข้ารหัสแบบ UTF-8, UTF-16 หรือ UTF-32
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	public static void parse(ByteBuffer value, JSONHandler handler)
+			throws IllegalArgumentException {
+		try {
+			new Parser(util(), new Props(), Source.of(value)).parse(handler);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String จากไฟล์ผ่าน memory-mapped region
+	 * แล้วส่ง Event ให้กับ {@link JSONHandler}
+	 *
+	 * @param value
+	 *            ไฟล์ของ JSON String
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws IOException
+	 *             ไม่สามารถอ่านไฟล์ value ได้
+	 * @see #valueOf(Path)
+	 */
+	public static void parse(Path value, JSONHandler handler)
+			throws IllegalArgumentException, IOException {
+		try (Source source = Source.of(new Source.Mapped(FileChannel.open(
+				value, StandardOpenOption.READ)), JSONReader.BUFFER_SIZE)) {
+			new Parser(util(), new Props(), source).parse(handler);
+		}
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String แล้วแปลงเป็น Java Object ตาม
+	 * DataType ที่ต้องการโดยตรง โดยไม่สร้าง {@link JSON} หรือ
+	 * {@link JSON.Data} ระหว่างทาง ได้ผลลัพธ์เหมือนกับ
+	 * <code>new JSON(value).get(type)</code> ทั้งนี้ key
+	 * ที่ไม่ตรงกับ Field ใดๆ จะถูกอ่านข้ามโดยไม่สร้าง String หรือ Object
+	 *
+	 * @param <T>
+	 *            DataType ที่ต้องการ
+	 * @param value
+	 *            JSON String
+	 * @param type
+	 *            Type ของ DataType ที่ต้องการ (Class หรือ Generic Type)
+	 * @return ข้อมูล JSON ในรูปแบบของ Java Object ตาม DataType ที่ต้องการ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType (T) ได้
+	 */
+	public static <T> T parse(String value, Type type)
+			throws IllegalArgumentException, ClassCastException {
+		return parse(value, type, new Props());
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String แล้วแปลงเป็น Java Object ตาม
+	 * DataType ที่ต้องการโดยตรง ตาม Properties ที่ระบุ
+	 *
+	 * @param <T>
+	 *            DataType ที่ต้องการ
+	 * @param value
+	 *            JSON String
+	 * @param type
+	 *            Type ของ DataType ที่ต้องการ (Class หรือ Generic Type)
+	 * @param props
+	 *            Properties ที่ใช้อ่านและแปลงข้อมูล
+	 * @return ข้อมูล JSON ในรูปแบบของ Java Object ตาม DataType ที่ต้องการ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType (T) ได้
+	 * @see #parse(String, Type)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T parse(String value, Type type, Props props)
+			throws IllegalArgumentException, ClassCastException {
+		try {
+			return (T) new Parser(util(), props,
+					new Source.Chars(value.toCharArray())).bind(type);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String จาก {@link Reader} ผ่าน buffer
+	 * ขนาดคงที่ แล้วแปลงเป็น Java Object ตาม DataType ที่ต้องการโดยตรง
+	 *
+	 * @param <T>
+	 *            DataType ที่ต้องการ
+	 * @param value
+	 *            {@link Reader} ของ JSON String
+	 * @param type
+	 *            Type ของ DataType ที่ต้องการ (Class หรือ Generic Type)
+	 * @param props
+	 *            Properties ที่ใช้อ่านและแปลงข้อมูล
+	 * @return ข้อมูล JSON ในรูปแบบของ Java Object ตาม DataType ที่ต้องการ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType (T) ได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 * @see #parse(String, Type)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T parse(Reader value, Type type, Props props)
+			throws IllegalArgumentException, ClassCastException, IOException {
+		return (T) new Parser(util(), props,
+				new Source.Chars(value, JSONReader.BUFFER_SIZE)).bind(type);
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String จาก {@link InputStream} แบบ byte
+	 * ผ่าน buffer ขนาดคงที่ แล้วแปลงเป็น Java Object ตาม DataType
+	 * ที่ต้องการโดยตรง โดยตรวจสอบการเข้ารหัสจาก Byte Order Mark หรือ byte
+	 * แรกของข้อมูล
+	 *
+	 * @param <T>
+	 *            DataType ที่ต้องการ
+	 * @param value
+	 *            {@link InputStream} ของ JSON String
+	 * @param type
+	 *            Type ของ DataType ที่ต้องการ (Class หรือ Generic Type)
+	 * @param props
+	 *            Properties ที่ใช้อ่านและแปลงข้อมูล
+	 * @return ข้อมูล JSON ในรูปแบบของ Java Object ตาม DataType ที่ต้องการ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType (T) ได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 * @see #parse(String, Type)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T parse(InputStream value, Type type, Props props)
+			throws IllegalArgumentException, ClassCastException, IOException {
+		return (T) new Parser(util(), props,
+				Source.of(value, JSONReader.BUFFER_SIZE)).bind(type);
+	}
+
+	/**
+	 * Function สำหรับอ่าน JSON String จากข้อมูล byte ตั้งแต่ position
+	 * ถึง limit ของ {@link ByteBuffer} แล้วแปลงเป็น Java Object ตาม
+	 * DataType ที่ต้องการโดยตรง
+	 *
+	 * @param <T>
+	 *            DataType ที่ต้องการ
+	 * @param value
+	 *            JSON String ที่เข้ารหัสแบบ UTF-8, UTF-16 หรือ UTF-32
+	 * @param type
+	 *            Type ของ DataType ที่ต้องการ (Class หรือ Generic Type)
+	 * @param props
+	 *            Properties ที่ใช้อ่านและแปลงข้อมูล
+	 * @return ข้อมูล JSON ในรูปแบบของ Java Object ตาม DataType ที่ต้องการ
+	 * @throws IllegalArgumentException
+	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType (T) ได้
+	 * @see #parse(String, Type)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T parse(ByteBuffer value, Type type, Props props)
+			throws IllegalArgumentException, ClassCastException {
+		try {
+			return (T) new Parser(util(), props, Source.of(value)).bind(type);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Function สำหรับเขียนข้อมูลใดๆ (Java Object, Map, Collection, Array
+	 * หรือ JSON Value) เป็น JSON String ลงใน {@link Appendable} โดยตรง
+	 * โดยไม่สร้าง {@link JSON} (ผลลัพธ์เหมือนกับ
+	 * <code>new JSON(value).writeTo(out)</code>)
+	 *
+	 * @param value
+	 *            ข้อมูลที่ต้องการเขียน
+	 * @param out
+	 *            ตัวเก็บผลลัพธ์
+	 * @throws NullPointerException
+	 *             out เป็น null
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @see #write(Object, Appendable, Props)
+	 */
+	public static void write(Object value, Appendable out)
+			throws NullPointerException, IllegalArgumentException,
+			IOException {
+		write(value, out, new Props());
+	}
 
-		/**
-		 * Method สำหรับตรวจสอบว่า {@link JSON} Object
-		 * ที่ระบุมีค่าเท่ากันหรือไม่
-		 *
-		 * @param value1
-		 *            ที่ระบุ 1
-		 * @param value2
-		 *            ที่ระบุ 2
-		 * @param props
-		 *            Properties ของ {@link JSON} Object
-		 * @return true หาก <code>value1</code> และ <code>value1</code>
-		 *         มีค่าเท่ากัน
-		 * @throws NullPointerException
-		 *             <code>props</code> เป็น null
-		 */
-		public boolean equals(Data value1, Data value2, Props props)
-				throws NullPointerException {
-			if (value1 == value2) return true;
-			else if (value1 == null || value2 == null) return false;
-			else if (value1.object != null)
-				return value1.object.equals(value2.object);
-			else if (value1.array != null)
-				return value1.array.equals(value2.array);
-			else if (value1.value != null)
-				return value1.value.equals(value2.value);
-			else return value2.object == null
-					&& value2.array == null
-					&& value2.value == null;
+	/**
+	 * Function สำหรับเขียนข้อมูลใดๆ เป็น JSON String ลงใน
+	 * {@link Appendable} โดยตรงตาม Properties ที่ระบุ โดยอ่านค่าของ Java
+	 * Object ตามแผนการแปลงที่เก็บไว้ของแต่ละ Class และไม่สร้าง
+	 * {@link JSON.Data} ของแต่ละค่า (ผลลัพธ์เหมือนกับ
+	 * <code>new JSON(value, props).writeTo(out)</code>)
+	 *
+	 * @param value
+	 *            ข้อมูลที่ต้องการเขียน
+	 * @param out
+	 *            ตัวเก็บผลลัพธ์
+	 * @param props
+	 *            Properties ที่ใช้แปลงและเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             out หรือ props เป็น null
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	public static void write(Object value, Appendable out, Props props)
+			throws NullPointerException, IllegalArgumentException,
+			IOException {
+		if (out == null || props == null) throw new NullPointerException();
+		util().writeObject(out, value, props);
+	}
+
+	/**
+	 * Function สำหรับเขียนข้อมูลใดๆ เป็น JSON String ลงใน
+	 * {@link OutputStream} โดยเข้ารหัสแบบ UTF-8 ผ่าน buffer จาก pool
+	 * ของ Thread ปัจจุบันโดยตรง แล้ว flush (ไม่ปิด {@link OutputStream})
+	 *
+	 * @param value
+	 *            ข้อมูลที่ต้องการเขียน
+	 * @param out
+	 *            {@link OutputStream} สำหรับเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             out เป็น null
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @see #writeBytes(Object, OutputStream, Props)
+	 */
+	public static void writeBytes(Object value, OutputStream out)
+			throws NullPointerException, IllegalArgumentException,
+			IOException {
+		writeBytes(value, out, new Props());
+	}
 
+	/**
+	 * Function สำหรับเขียนข้อมูลใดๆ เป็น JSON String ลงใน
+	 * {@link OutputStream} ตาม Properties ที่ระบุ โดยเข้ารหัสแบบ UTF-8
+	 * ผ่าน buffer จาก pool ของ Thread ปัจจุบันโดยตรง แล้ว flush
+	 * (ไม่ปิด {@link OutputStream})
+	 *
+	 * @param value
+	 *            ข้อมูลที่ต้องการเขียน
+	 * @param out
+	 *            {@link OutputStream} สำหรับเขียนข้อมูล
+	 * @param props
+	 *            Properties ที่ใช้แปลงและเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             out หรือ props เป็น null
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @see #write(Object, Appendable, Props)
+	 */
+	public static void writeBytes(Object value, OutputStream out,
+			Props props) throws NullPointerException,
+			IllegalArgumentException, IOException {
+		if (props == null) throw new NullPointerException();
+		try (Output output = new Output(out)) {
+			util().writeObject(output, value, props);
 		}
+	}
 
-		/**
-		 * Method สำหรับ Generate Hash Code ให้กับ {@link JSON} Object ที่ระบ
-		 *
-		 * @param value
-		 *            ค่าที่ต้องการ Generate Hash Code
-		 * @param props
-		 *            Properties ของ {@link JSON} Object
-		 * @return Hash Code
-		 * @throws NullPointerException
-		 *             <code>value</code> หรือ <code>props</code> เป็น null
-		 */
-		public int hashCode(Data value, Props props)
-				throws NullPointerException {
-			if (value.object != null) return value.hashCode();
-			else if (value.array != null) return value.array.hashCode();
-			else if (value.value != null) return value.value.hashCode();
-			else return 0;
+	/**
+	 * Function สำหรับตรวจสอบว่าเป็น JSON String ที่ถูกต้องหรือไม่
+	 * โดยไม่สร้าง {@link JSON} (อ่านข้อมูลผ่าน buffer ขนาดคงที่
+	 * ไม่มีการสร้าง Object ตามขนาดของข้อมูล)
+	 *
+	 * @param value
+	 *            JSON String
+	 * @return -1 หาก <code>value</code> เป็น JSON String ที่ถูกต้อง
+	 *         หรือตำแหน่งที่พบข้อผิดพลาด
+	 */
+	public static long validate(String value) {
+		try {
+			return new Parser(util(), new Props(), new Source.Chars(
+					new StringReader(value),
+					Math.min(value.length(), JSONReader.BUFFER_SIZE)))
+							.validate();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
+	}
 
-		/**
-		 * สร้าง {@link Iterator} สำหรับ {@link JSON} Object
-		 *
-		 * @param data
-		 *            Object {@link JSON.Data} สำหรับเก็บข้อมูล JSON
-		 * @param props
-		 *            Properties ของ {@link JSON} Object
-		 * @return Iterator ของข้อมูล JSON
-		 * @throws NullPointerException
-		 *             data หรือ props เป็น null
-		 */
-		public Iterator<JSON.Entry> iterator(Data data, Props props)
-				throws NullPointerException {
-			if (data.object != null) return new ObjIt(data.object, props);
-			else if (data.array != null) return new AryIt(data.array, props);
-			else return new ValIt(data, props);
+	/**
+	 * Function สำหรับตรวจสอบว่าข้อมูล byte เป็น JSON String
+	 * ที่ถูกต้องหรือไม่ โดยไม่สร้าง {@link JSON}
+	 *
+	 * @param value
+	 *            JSON String ที่เข้ารหัสแบบ UTF-8, UTF-16 หรือ UTF-32
+	 * @return -1 หาก <code>value</code> เป็น JSON String ที่ถูกต้อง
+	 *         หรือตำแหน่งที่พบข้อผิดพลาด
+	 * @see #validate(String)
+	 */
+	public static long validate(byte[] value) {
+		return validate(ByteBuffer.wrap(value));
+	}
+
+	/**
+	 * Function สำหรับตรวจสอบว่าข้อมูล byte ตั้งแต่ position ถึง limit ของ
+	 * {@link ByteBuffer} เป็น JSON String ที่ถูกต้องหรือไม่ โดยไม่สร้าง
+	 * {@link JSON}
+	 *
+	 * @param value
+	 *            JSON String ที่เข้ารหัสแบบ UTF-8, UTF-16 หรือ UTF-32
+	 * @return -1 หาก <code>value</code> เป็น JSON String ที่ถูกต้อง
+	 *         หรือตำแหน่งที่พบข้อผิดพลาด
+	 * @see #validate(String)
+	 */
+	public static long validate(ByteBuffer value) {
+		try {
+			return new Parser(util(), new Props(), Source.of(value))
+					.validate();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
 	}
 
 	/**
-	 * Field สำหรับ {@link Serializable}
+	 * Function สำหรับตรวจสอบว่าข้อมูลจาก {@link InputStream} เป็น JSON
+	 * String ที่ถูกต้องหรือไม่ โดยไม่สร้าง {@link JSON}
+	 * และตรวจสอบการเข้ารหัสจาก Byte Order Mark หรือ byte แรกของข้อมูล
+	 *
+	 * @param value
+	 *            {@link InputStream} ของ JSON String
+	 * @return -1 หาก <code>value</code> เป็น JSON String ที่ถูกต้อง
+	 *         หรือตำแหน่งที่พบข้อผิดพลาด
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 * @see #validate(String)
 	 */
-	private static final long serialVersionUID = 1L;
+	public static long validate(InputStream value) throws IOException {
+		return new Parser(util(), new Props(),
+				Source.of(value, JSONReader.BUFFER_SIZE)).validate();
+	}
 
 	/**
-	 * Function สำหรับเรียกค่า {@link JSON} จาก String ที่ระบุ
+	 * Function สำหรับตรวจสอบว่าข้อมูลจาก {@link Reader} เป็น JSON String
+	 * ที่ถูกต้องหรือไม่ โดยไม่สร้าง {@link JSON}
 	 *
 	 * @param value
-	 *            JSON String
-	 * @return {@link JSON} จาก <code>value</code> ที่ระบุ
-	 * @throws IllegalArgumentException
-	 *             <code>value</code> ไม่ใช่ JSON String ที่ถูกต้อง
+	 *            {@link Reader} ของ JSON String
+	 * @return -1 หาก <code>value</code> เป็น JSON String ที่ถูกต้อง
+	 *         หรือตำแหน่งที่พบข้อผิดพลาด
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 * @see #validate(String)
 	 */
-	public static JSON valueOf(String value) throws IllegalArgumentException {
-		return new JSON(value);
+	public static long validate(Reader value) throws IOException {
+		return new Parser(util(), new Props(),
+				new Source.Chars(value, JSONReader.BUFFER_SIZE)).validate();
 	}
 
 	/**
@@ -1763,6 +3137,23 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		data = getUtil().newData(props = new Props(), value);
 	}
 
+	/**
+	 * Constructor สำหรับสร้าง JSON Object โดยใช้ Properties ที่ระบุ
+	 *
+	 * @param value
+	 *            ข้อมูลตั้งต้นของ JSON Object
+	 * @param props
+	 *            Properties ของ JSON Object
+	 * @throws NullPointerException
+	 *             props เป็น null
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 */
+	public JSON(Object value, Props props)
+			throws NullPointerException, IllegalArgumentException {
+		data = getUtil().newData(this.props = props.clone(), value);
+	}
+
 	/**
 	 * Constructor สำหรับสร้าง JSON Object
 	 *
@@ -1777,17 +3168,27 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 	 */
 	public JSON(InputStream value, Charset charset)
 			throws IllegalArgumentException, IOException {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		byte[] b = new byte[1024 * 1024];
-		for (int r; (r = value.read(b)) > 0;) {
-			baos.write(b, 0, r);
-		}
-		String text = new String(baos.toByteArray(), charset);
-		data = getUtil().newData(props = new Props(), text);
+		this(new InputStreamReader(value, charset));
 	}
 
 	/**
-	 * Constructor สำหรับสร้าง JSON Object
+	 * Constructor สำหรับสร้าง JSON Object โดยอ่านข้อมูลผ่าน buffer
+	 * ขนาดคงที่
+	 *
+	 * @param value
+	 *            ข้อมูลตั้งต้นของ JSON Object
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 */
+	public JSON(Reader value) throws IllegalArgumentException, IOException {
+		data = getUtil().parse(value, props = new Props());
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง JSON Object โดยอ่านข้อมูลแบบ byte
+	 * และตรวจสอบการเข้ารหัสจาก Byte Order Mark หรือ byte แรกของข้อมูล
 	 *
 	 * @param value
 	 *            ข้อมูลตั้งต้นของ JSON Object
@@ -1798,7 +3199,7 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 	 */
 	public JSON(InputStream value)
 			throws IllegalArgumentException, IOException {
-		this(value, Charset.defaultCharset());
+		data = getUtil().parse(value, props = new Props());
 	}
 
 	/**
@@ -1820,6 +3221,16 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		props = new Props();
 	}
 
+	/**
+	 * เรียกตัวช่วยในการทำงานภายใน Class JSON ตั้งต้น สำหรับ Class อื่นๆ
+	 * ภายใน package
+	 *
+	 * @return {@link JSON.Util}
+	 */
+	static Util util() {
+		return Util.$.$;
+	}
+
 	/**
 	 * เรียกตัวช่วยในการทำงานภายใน Class JSON
 	 *
@@ -2206,9 +3617,208 @@ public class JSON implements Iterable<JSON.Entry>, Serializable {
 		return this;
 	}
 
+	/**
+	 * กำหนดว่าจะอ่านและกำหนดค่าของ Field ใน Java Object ผ่าน
+	 * {@link java.lang.invoke.MethodHandle} แทน {@link Field} หรือไม่
+	 *
+	 * @param enable
+	 *            true: ใช้ {@link java.lang.invoke.MethodHandle}
+	 * @return Object ตัวเอง
+	 */
+	public JSON enableObjectParsingHandles(boolean enable) {
+		props.objectParsingHandles = enable;
+		return this;
+	}
+
+	/**
+	 * กำหนดว่าจะแปลง JSON Value ที่อยู่ในรูปแบบของวันที่เป็น {@link Date}
+	 * ระหว่างอ่าน JSON String หรือไม่
+	 *
+	 * @param enable
+	 *            true: แปลงเป็น {@link Date} ระหว่างอ่าน JSON String
+	 * @return Object ตัวเอง
+	 */
+	public JSON enableDateParsing(boolean enable) {
+		props.dateParsing = enable;
+		return this;
+	}
+
+	/**
+	 * กำหนดว่าจะแปลง JSON Value ที่เป็นตัวเลขเป็น {@link Integer},
+	 * {@link Long} หรือ {@link Double} ระหว่างอ่าน JSON String หรือไม่
+	 *
+	 * @param enable
+	 *            true: แปลงตัวเลขระหว่างอ่าน JSON String, false: เก็บไว้เป็น
+	 *            {@link JSONNumber}
+	 * @return Object ตัวเอง
+	 */
+	public JSON enableNumberParsing(boolean enable) {
+		props.numberParsing = enable;
+		return this;
+	}
+
+	/**
+	 * กำหนดว่าจะอ่าน JSON String แบบ lazy หรือไม่
+	 *
+	 * @param enable
+	 *            true: อ่าน JSON Object และ JSON Array ที่อยู่ภายใน
+	 *            เมื่อมีการเรียกใช้ครั้งแรก
+	 * @return Object ตัวเอง
+	 */
+	public JSON enableLazyParsing(boolean enable) {
+		props.lazyParsing = enable;
+		return this;
+	}
+
+	/**
+	 * กำหนดจำนวน Thread ที่ใช้อ่าน JSON Array ระดับบนสุดแบบขนาน
+	 *
+	 * @param value
+	 *            จำนวน Thread (น้อยกว่า 2 หมายถึงอ่านตามลำดับ)
+	 * @return Object ตัวเอง
+	 */
+	public JSON setParallelism(int value) {
+		props.parallelism = value;
+		return this;
+	}
+
+	/**
+	 * กำหนดขนาดขั้นต่ำของข้อมูลที่จะอ่านแบบขนาน
+	 *
+	 * @param value
+	 *            จำนวนตัวอักษรหรือ byte
+	 * @return Object ตัวเอง
+	 */
+	public JSON setParallelThreshold(int value) {
+		props.parallelThreshold = value;
+		return this;
+	}
+
+	/**
+	 * กำหนด path ของข้อมูลที่ต้องการอ่าน
+	 *
+	 * @param value
+	 *            {@link JSONProjection} หรือ null หากต้องการอ่านข้อมูลทั้งหมด
+	 * @return Object ตัวเอง
+	 */
+	public JSON setProjection(JSONProjection value) {
+		props.projection = value;
+		return this;
+	}
+
+	/**
+	 * กำหนดว่าจะเก็บ JSON String ของแต่ละ JSON Object และ JSON Array
+	 * ที่เขียนแล้วไว้ใช้ซ้ำหรือไม่
+	 *
+	 * @param enable
+	 *            true: เก็บ JSON String ไว้ใช้ซ้ำ
+	 * @return Object ตัวเอง
+	 */
+	public JSON enableOutputCaching(boolean enable) {
+		props.outputCaching = enable;
+		return this;
+	}
+
+	/**
+	 * เขียน JSON String ลงใน {@link Appendable} โดยตรง
+	 * โดยไม่สร้าง JSON String ทั้งก้อนไว้ในหน่วยความจำ
+	 *
+	 * @param out
+	 *            ตัวเก็บผลลัพธ์
+	 * @throws NullPointerException
+	 *             out เป็น null
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	public void writeTo(Appendable out)
+			throws NullPointerException, IOException {
+		getUtil().write(out, data, props);
+	}
+
+	/**
+	 * เขียน JSON String ลงใน {@link Writer} โดยตรง แล้ว flush
+	 * (ไม่ปิด {@link Writer})
+	 *
+	 * @param out
+	 *            {@link Writer} สำหรับเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             out เป็น null
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	public void writeTo(Writer out) throws NullPointerException, IOException {
+		getUtil().write(out, data, props);
+		out.flush();
+	}
+
+	/**
+	 * เขียน JSON String ลงใน {@link OutputStream} โดยเข้ารหัสแบบ UTF-8
+	 * ผ่าน buffer จาก pool ของ Thread ปัจจุบันโดยตรง (ไม่สร้าง String
+	 * หรือ <code>byte[]</code> ของข้อมูลทั้งหมด) แล้ว flush
+	 * (ไม่ปิด {@link OutputStream})
+	 *
+	 * @param out
+	 *            {@link OutputStream} สำหรับเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             out เป็น null
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	public void writeBytes(OutputStream out)
+			throws NullPointerException, IOException {
+		try (Output output = new Output(out)) {
+			getUtil().write(output, data, props);
+		}
+	}
+
+	/**
+	 * เขียน JSON String ลงใน {@link WritableByteChannel} (blocking)
+	 * โดยเข้ารหัสแบบ UTF-8 ผ่าน buffer จาก pool ของ Thread ปัจจุบันโดยตรง
+	 * (ไม่ปิด {@link WritableByteChannel})
+	 *
+	 * @param out
+	 *            {@link WritableByteChannel} สำหรับเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             out เป็น null
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	public void writeBytes(WritableByteChannel out)
+			throws NullPointerException, IOException {
+		try (Output output = new Output(out)) {
+			getUtil().write(output, data, props);
+		}
+	}
+
+	/**
+	 * เขียน JSON String ลงใน {@link ByteBuffer} (heap หรือ direct)
+	 * ตั้งแต่ position ปัจจุบัน โดยเข้ารหัสแบบ UTF-8
+	 *
+	 * @param out
+	 *            {@link ByteBuffer} สำหรับเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             out เป็น null
+	 * @throws BufferOverflowException
+	 *             out มีที่ว่างไม่พอ (ข้อมูลบางส่วนอาจถูกเขียนไปแล้ว)
+	 */
+	public void writeBytes(ByteBuffer out)
+			throws NullPointerException, BufferOverflowException {
+		try (Output output = new Output(out)) {
+			getUtil().write(output, data, props);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	@Override
 	public String toString() {
-		return getUtil().buildString(data, props).toString();
+		StringBuilder builder = new StringBuilder();
+		try {
+			getUtil().write(builder, data, props);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return builder.toString();
 	}
 
 	@Override
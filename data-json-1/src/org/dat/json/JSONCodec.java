@@ -0,0 +1,257 @@
+package org.dat.json;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+import org.dat.json.JSON.Props;
+
+/**
+ * <h3>Class JSONCodec</h3>
+ * <p>
+ * Class JSONCodec เป็น Class ต้นแบบสำหรับตัวแปลงระหว่าง Java Object กับ
+ * JSON Object ของ Class หนึ่งๆ ที่เข้าถึง Field โดยตรงโดยไม่ใช้ Reflection
+ * ซึ่งปกติจะถูกสร้างขึ้นระหว่าง compile โดย Annotation Processor
+ * (<code>org.dat.json.apt.JSONCodecProcessor</code>) สำหรับ Class ที่มี
+ * Field ที่ประกาศ {@link javax.xml.bind.annotation.XmlElement}
+ * </p>
+ * <p>
+ * {@link JSON} จะเรียกใช้ JSONCodec ของ Class ใดๆ โดยอัตโนมัติ
+ * หากมี Class ชื่อ <code>&lt;ชื่อ Class&gt;_JSONCodec</code> (Class
+ * ที่ซ้อนอยู่จะใช้ <code>_</code> แทน <code>$</code>) อยู่ใน package
+ * เดียวกัน และ {@link #accepts(Props)} ยอมรับ Properties ที่ใช้แปลง
+ * มิฉะนั้นจะใช้ Reflection ตามปกติ
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ * @param <T>
+ *            Class ที่แปลง
+ */
+public abstract class JSONCodec<T> {
+	/**
+	 * <h3>Class JSONCodec.Parameterized</h3>
+	 * <p>
+	 * Class JSONCodec.Parameterized เป็น {@link ParameterizedType}
+	 * สำหรับระบุ Generic Type ของ Field
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Parameterized implements ParameterizedType {
+		/**
+		 * Attribute สำหรับเก็บ Class ของ Type
+		 */
+		private final Class<?> raw;
+		/**
+		 * Attribute สำหรับเก็บ Type Argument ของ Type
+		 */
+		private final Type[] arguments;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Parameterized}
+		 *
+		 * @param raw
+		 *            Class ของ Type
+		 * @param arguments
+		 *            Type Argument ของ Type
+		 */
+		Parameterized(Class<?> raw, Type[] arguments) {
+			this.raw = raw;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public Type[] getActualTypeArguments() {
+			return arguments.clone();
+		}
+
+		@Override
+		public Type getRawType() {
+			return raw;
+		}
+
+		@Override
+		public Type getOwnerType() {
+			return raw.getDeclaringClass();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ParameterizedType)) return false;
+			ParameterizedType type = (ParameterizedType) obj;
+			return raw.equals(type.getRawType()) && Arrays.equals(arguments,
+					type.getActualTypeArguments());
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(arguments) ^ raw.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder str = new StringBuilder(raw.getName()).append('<');
+			for (int i = 0; i < arguments.length; i++) {
+				if (i > 0) str.append(", ");
+				str.append(arguments[i].getTypeName());
+			}
+			return str.append('>').toString();
+		}
+	}
+
+	/**
+	 * Attribute สำหรับเก็บ Class ที่แปลง
+	 */
+	private final Class<T> type;
+	/**
+	 * Attribute สำหรับเก็บ JSON Key ของแต่ละ Field ตามลำดับ
+	 */
+	private final String[] keys;
+	/**
+	 * Attribute สำหรับเก็บ Generic Type ของแต่ละ Field ตามลำดับ
+	 */
+	private final Type[] types;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONCodec}
+	 *
+	 * @param type
+	 *            Class ที่แปลง
+	 * @param keys
+	 *            JSON Key ของแต่ละ Field ตามลำดับของ
+	 *            {@link org.reflect.invoke.util.Hierarchy}
+	 * @param types
+	 *            Generic Type ของแต่ละ Field ตามลำดับเดียวกับ keys
+	 * @throws NullPointerException
+	 *             type, keys หรือ types เป็น null
+	 * @throws IllegalArgumentException
+	 *             จำนวนของ keys และ types ไม่เท่ากัน
+	 */
+	protected JSONCodec(Class<T> type, String[] keys, Type[] types)
+			throws NullPointerException, IllegalArgumentException {
+		if (type == null) throw new NullPointerException();
+		if (keys.length != types.length)
+			throw new IllegalArgumentException("Keys and types mismatch.");
+		this.type = type;
+		this.keys = keys;
+		this.types = types;
+	}
+
+	/**
+	 * สร้าง {@link ParameterizedType} สำหรับระบุ Generic Type ของ Field
+	 *
+	 * @param raw
+	 *            Class ของ Type
+	 * @param arguments
+	 *            Type Argument ของ Type
+	 * @return {@link ParameterizedType} ที่สร้างขึ้น
+	 * @throws NullPointerException
+	 *             raw หรือ arguments เป็น null
+	 */
+	protected static ParameterizedType parameterized(Class<?> raw,
+			Type... arguments) throws NullPointerException {
+		if (raw == null) throw new NullPointerException();
+		return new Parameterized(raw, arguments.clone());
+	}
+
+	/**
+	 * เรียก Class ที่แปลง
+	 *
+	 * @return Class ที่แปลง
+	 */
+	public final Class<T> type() {
+		return type;
+	}
+
+	/**
+	 * เรียกจำนวน Field ที่แปลง
+	 *
+	 * @return จำนวน Field
+	 */
+	public final int size() {
+		return keys.length;
+	}
+
+	/**
+	 * เรียก JSON Key ของ Field ที่ระบุ
+	 *
+	 * @param index
+	 *            ลำดับของ Field
+	 * @return JSON Key ของ Field
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             ไม่มี Field ลำดับที่ระบุ
+	 */
+	public final String key(int index) throws ArrayIndexOutOfBoundsException {
+		return keys[index];
+	}
+
+	/**
+	 * เรียก Generic Type ของ Field ที่ระบุ
+	 *
+	 * @param index
+	 *            ลำดับของ Field
+	 * @return Generic Type ของ Field
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             ไม่มี Field ลำดับที่ระบุ
+	 */
+	public final Type typeOf(int index) throws ArrayIndexOutOfBoundsException {
+		return types[index];
+	}
+
+	/**
+	 * ตรวจสอบว่า JSONCodec นี้ใช้แปลงตาม Properties ที่ระบุได้หรือไม่
+	 * ({@link Props#objectParsingKey}, {@link Props#objectParsingKeyField},
+	 * {@link Props#objectParsingKeyIgnoreField} และ
+	 * {@link Props#objectParsingKeyRequire} ตรงกับที่ใช้สร้าง)
+	 *
+	 * @param props
+	 *            Properties ของ {@link JSON} Object
+	 * @return true หากใช้แปลงได้
+	 */
+	public abstract boolean accepts(Props props);
+
+	/**
+	 * สร้าง Object ใหม่ของ Class ที่แปลง
+	 *
+	 * @return Object ที่สร้างขึ้น
+	 */
+	public abstract T newInstance();
+
+	/**
+	 * อ่านค่าของ Field ที่ระบุ
+	 *
+	 * @param object
+	 *            Object ที่ต้องการอ่านค่า
+	 * @param index
+	 *            ลำดับของ Field
+	 * @return ค่าของ Field (primitive จะถูกแปลงเป็น Wrapper)
+	 * @throws IndexOutOfBoundsException
+	 *             ไม่มี Field ลำดับที่ระบุ
+	 */
+	public abstract Object get(T object, int index)
+			throws IndexOutOfBoundsException;
+
+	/**
+	 * กำหนดค่าของ Field ที่ระบุ
+	 *
+	 * @param object
+	 *            Object ที่ต้องการกำหนดค่า
+	 * @param index
+	 *            ลำดับของ Field
+	 * @param value
+	 *            ค่าที่ต้องการกำหนด ตาม DataType ของ Field
+	 * @throws IndexOutOfBoundsException
+	 *             ไม่มี Field ลำดับที่ระบุ
+	 * @throws ClassCastException
+	 *             value ไม่ตรงกับ DataType ของ Field
+	 * @throws NullPointerException
+	 *             value เป็น null แต่ Field เป็น primitive
+	 * @throws UnsupportedOperationException
+	 *             Field เป็น static final
+	 */
+	public abstract void set(T object, int index, Object value)
+			throws IndexOutOfBoundsException, ClassCastException,
+			NullPointerException, UnsupportedOperationException;
+}
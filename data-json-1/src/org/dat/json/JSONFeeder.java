@@ -0,0 +1,360 @@
+package org.dat.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Class JSONFeeder</h3>
+ * <p>
+ * Class JSONFeeder เป็น Class สำหรับอ่าน JSON String ที่เข้ารหัสแบบ UTF-8
+ * จากข้อมูลที่ทยอยเข้ามาทีละส่วน (เช่น non-blocking I/O) โดยผู้ใช้ส่งข้อมูล
+ * ที่ได้รับด้วย {@link #feed(ByteBuffer)} แล้วเรียก {@link #next()}
+ * ซึ่งจะคืนค่า null หากข้อมูลยังไม่ครบ และคืนค่า {@link JSON}
+ * เมื่อได้รับข้อมูลครบหนึ่งชุด โดยไม่ต้องรอข้อมูลทั้งหมดใน Thread
+ * </p>
+ * <p>
+ * สถานะของการตรวจสอบโครงสร้าง (String, ระดับของ JSON Object / JSON Array)
+ * จะถูกจดจำระหว่างการส่งข้อมูลแต่ละส่วน ข้อมูลแต่ละส่วนจึงถูกตรวจสอบเพียงครั้งเดียว
+ * และเก็บเฉพาะข้อมูลของ JSON ชุดที่ยังไม่ครบไว้เท่านั้น
+ * </p>
+ * <p>
+ * ในโหมดปกติ ข้อมูลสามารถมี JSON หลายชุดต่อกันได้ โดย JSON ที่ไม่ได้ครอบด้วย
+ * <code>{}</code>, <code>[]</code> หรือ Quotation Mark จะสิ้นสุดเมื่อเรียก
+ * {@link #end()} เท่านั้น ในโหมด NDJSON (JSON Lines) แต่ละบรรทัดคือ JSON
+ * หนึ่งชุด และบรรทัดว่างจะถูกข้ามไป
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public class JSONFeeder {
+	/**
+	 * Attribute สำหรับใช้ในการเก็บ Properties ของ {@link JSON}
+	 * ที่สร้างจากข้อมูลที่อ่านได้
+	 */
+	public final Props props;
+	/**
+	 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+	 */
+	protected final Util util;
+	/**
+	 * Attribute สำหรับจดจำว่าเป็นโหมด NDJSON (JSON Lines) หรือไม่
+	 */
+	protected final boolean lines;
+
+	/**
+	 * Attribute สำหรับเก็บข้อมูลที่ได้รับแต่ยังไม่ได้อ่าน
+	 */
+	private byte[] buf = new byte[JSONReader.BUFFER_SIZE];
+	/**
+	 * Attribute สำหรับเก็บจำนวน byte ที่อยู่ใน {@link #buf}
+	 */
+	private int limit;
+	/**
+	 * Attribute สำหรับเก็บตำแหน่งที่ตรวจสอบโครงสร้างถึงแล้ว
+	 */
+	private int pos;
+	/**
+	 * Attribute สำหรับเก็บตำแหน่งเริ่มต้นของ JSON ชุดปัจจุบัน (-1
+	 * หากยังไม่พบ)
+	 */
+	private int start;
+	/**
+	 * Attribute สำหรับจดจำว่าตรวจสอบ Byte Order Mark แล้วหรือยัง
+	 */
+	private boolean started;
+	/**
+	 * Attribute สำหรับจดจำว่าข้อมูลสิ้นสุดแล้วหรือยัง
+	 */
+	private boolean ended;
+
+	/**
+	 * Attribute สำหรับเก็บชนิดของ JSON Object / JSON Array ในแต่ละระดับ
+	 */
+	private byte[] stack = new byte[32];
+	/**
+	 * Attribute สำหรับเก็บระดับปัจจุบันของข้อมูล
+	 */
+	private int depth;
+	/**
+	 * Attribute สำหรับเก็บ Quotation Mark ของ String ที่กำลังอ่าน (0
+	 * หากไม่ได้อยู่ใน String)
+	 */
+	private byte quote;
+	/**
+	 * Attribute สำหรับจดจำว่าตัวอักษรก่อนหน้าใน String คือ
+	 * <code>'\\'</code> หรือไม่
+	 */
+	private boolean escape;
+	/**
+	 * Attribute สำหรับจดจำว่ากำลังอ่านข้อความที่ไม่ได้ครอบด้วย Quotation
+	 * Mark หรือไม่
+	 */
+	private boolean bare;
+	/**
+	 * Attribute สำหรับจดจำว่าข้อความที่กำลังอ่านเป็น key ของ JSON Object
+	 * หรือไม่
+	 */
+	private boolean name;
+	/**
+	 * Attribute สำหรับจดจำว่า JSON Object ระดับปัจจุบันกำลังรอ key หรือไม่
+	 */
+	private boolean key;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONFeeder}
+	 *
+	 * @param props
+	 *            Properties ของ {@link JSON} ที่สร้างจากข้อมูลที่อ่านได้
+	 * @param lines
+	 *            true หากข้อมูลเป็น NDJSON (JSON Lines)
+	 * @throws NullPointerException
+	 *             props เป็น null
+	 */
+	public JSONFeeder(Props props, boolean lines) throws NullPointerException {
+		this.props = props.clone();
+		this.util = JSON.util();
+		this.lines = lines;
+		this.start = lines ? 0 : -1;
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONFeeder}
+	 */
+	public JSONFeeder() {
+		this(new Props(), false);
+	}
+
+	/**
+	 * ส่งข้อมูลส่วนถัดไป (ตั้งแต่ position ถึง limit ของ
+	 * {@link ByteBuffer})
+	 *
+	 * @param chunk
+	 *            ข้อมูลส่วนถัดไป
+	 * @throws NullPointerException
+	 *             chunk เป็น null
+	 * @throws IllegalStateException
+	 *             เรียก {@link #end()} ไปแล้ว
+	 */
+	public void feed(ByteBuffer chunk)
+			throws NullPointerException, IllegalStateException {
+		if (ended) throw new IllegalStateException("Input has ended");
+		int length = chunk.remaining();
+		if (limit + length > buf.length) {
+			int keep = start >= 0 ? start : pos;
+			System.arraycopy(buf, keep, buf, 0, limit - keep);
+			limit -= keep;
+			pos -= keep;
+			if (start >= 0) {
+				start -= keep;
+			}
+			if (limit + length > buf.length) {
+				buf = Arrays.copyOf(buf, Math.max(buf.length * 2,
+						limit + length));
+			}
+		}
+		chunk.get(buf, limit, length);
+		limit += length;
+	}
+
+	/**
+	 * ส่งข้อมูลส่วนถัดไป
+	 *
+	 * @param chunk
+	 *            ข้อมูลส่วนถัดไป
+	 * @param offset
+	 *            ตำแหน่งเริ่มต้นของข้อมูล
+	 * @param length
+	 *            ความยาวของข้อมูล
+	 * @throws NullPointerException
+	 *             chunk เป็น null
+	 * @throws IndexOutOfBoundsException
+	 *             offset หรือ length ไม่ถูกต้อง
+	 * @throws IllegalStateException
+	 *             เรียก {@link #end()} ไปแล้ว
+	 * @see #feed(ByteBuffer)
+	 */
+	public void feed(byte[] chunk, int offset, int length)
+			throws NullPointerException,
+			IndexOutOfBoundsException,
+			IllegalStateException {
+		feed(ByteBuffer.wrap(chunk, offset, length));
+	}
+
+	/**
+	 * แจ้งว่าข้อมูลสิ้นสุดแล้ว ข้อมูลที่เหลืออยู่จะถูกอ่านเป็น JSON
+	 * ชุดสุดท้ายเมื่อเรียก {@link #next()}
+	 */
+	public void end() {
+		ended = true;
+	}
+
+	/**
+	 * อ่าน JSON ชุดถัดไปที่ได้รับข้อมูลครบแล้ว
+	 *
+	 * @return {@link JSON} ชุดถัดไป หรือ null หากต้องการข้อมูลเพิ่ม
+	 *         (หรือไม่มีข้อมูลเหลือหลังจาก {@link #end()})
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลชุดถัดไปไม่ใช่ JSON String ที่ถูกต้อง
+	 *             (ข้อมูลชุดนั้นจะถูกข้ามไป)
+	 */
+	public JSON next() throws IllegalArgumentException {
+		if (!started && !bom()) return null;
+		for (;;) {
+			int end = lines ? line() : scan();
+			if (end < 0) {
+				if (!ended || start < 0 || start == limit) return null;
+				end = pos = limit;
+			}
+			int from = start;
+			reset(end);
+			int to = end;
+			while (from < to && (buf[from] & 0xFF) <= ' ') {
+				from++;
+			}
+			while (to > from && (buf[to - 1] & 0xFF) <= ' ') {
+				to--;
+			}
+			if (from == to) continue;
+			byte[] document = Arrays.copyOfRange(buf, from, to);
+			try {
+				return new JSON(new Parser(util, props, new Source.Bytes(
+						document, 0, document.length)).parse(), props);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * อ่านข้าม Byte Order Mark ของ UTF-8 (ถ้ามี) ที่ต้นข้อมูล
+	 *
+	 * @return false หากต้องการข้อมูลเพิ่มเพื่อตรวจสอบ
+	 */
+	private boolean bom() {
+		byte[] mark = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+		int length = Math.min(limit, mark.length);
+		for (int i = 0; i < length; i++) {
+			if (buf[i] != mark[i]) {
+				started = true;
+				return true;
+			}
+		}
+		if (length < mark.length && !ended) return false;
+		started = true;
+		if (length == mark.length) {
+			pos = mark.length;
+			if (lines) {
+				start = pos;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * เริ่มต้นสถานะสำหรับ JSON ชุดถัดไป
+	 *
+	 * @param end
+	 *            ตำแหน่งสิ้นสุดของ JSON ชุดก่อนหน้า
+	 */
+	private void reset(int end) {
+		start = lines ? end : -1;
+		depth = 0;
+		quote = 0;
+		escape = bare = name = key = false;
+	}
+
+	/**
+	 * หาตำแหน่งสิ้นสุดของบรรทัดปัจจุบัน
+	 *
+	 * @return ตำแหน่งถัดจาก <code>'\n'</code> หรือ -1
+	 *         หากต้องการข้อมูลเพิ่ม
+	 */
+	private int line() {
+		for (; pos < limit; pos++) {
+			if (buf[pos] == '\n') return ++pos;
+		}
+		return -1;
+	}
+
+	/**
+	 * ตรวจสอบโครงสร้างของข้อมูลต่อจากตำแหน่งล่าสุด จนพบจุดสิ้นสุดของ JSON
+	 * ชุดปัจจุบัน
+	 *
+	 * @return ตำแหน่งถัดจากจุดสิ้นสุดของ JSON ชุดปัจจุบัน หรือ -1
+	 *         หากต้องการข้อมูลเพิ่ม
+	 */
+	private int scan() {
+		for (byte[] buf = this.buf; pos < limit; pos++) {
+			byte c = buf[pos];
+			if (quote != 0) {
+				if (escape) {
+					escape = false;
+				} else if (c == '\\') {
+					escape = true;
+				} else if (c == quote) {
+					quote = 0;
+					if (depth == 0) return ++pos;
+				}
+				continue;
+			} else if (c <= ' ' && c >= 0) {
+				continue;
+			} else if (start < 0) {
+				start = pos;
+			}
+			if (bare) {
+				if (depth == 0) {
+					continue;
+				} else if (name && c == ':') {
+					bare = key = false;
+					continue;
+				} else if (c != ',' && c != ']' && c != '}' && c != '['
+						&& c != '{') {
+					continue;
+				}
+				bare = false;
+			}
+			switch (c) {
+			case '{':
+			case '[':
+				if (depth == stack.length) {
+					stack = Arrays.copyOf(stack, depth * 2);
+				}
+				stack[depth++] = c;
+				key = c == '{';
+				break;
+			case '}':
+			case ']':
+				if (depth <= 1 || stack[depth - 1] != (c == '}' ? '{' : '[')) {
+					depth = 0;
+					return ++pos;
+				}
+				depth--;
+				break;
+			case ',':
+			case ':':
+				if (depth > 0) {
+					key = c == ',' && stack[depth - 1] == '{';
+				} else {
+					bare = true;
+					name = false;
+				}
+				break;
+			default:
+				if (c == '"' || c == '\'') {
+					quote = c;
+				} else {
+					bare = true;
+					name = depth > 0 && key && stack[depth - 1] == '{';
+				}
+			}
+		}
+		return -1;
+	}
+}
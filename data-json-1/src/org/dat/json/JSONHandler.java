@@ -0,0 +1,273 @@
+package org.dat.json;
+
+import java.util.Arrays;
+
+import org.dat.json.JSON.Data;
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Interface JSONHandler</h3>
+ * <p>
+ * Interface JSONHandler เป็น Interface สำหรับรับ Event จากการอ่านข้อมูล
+ * JSON String แบบ push parser (เช่น {@link JSON#parse(String, JSONHandler)})
+ * โดยไม่ต้องสร้าง {@link JSON} ทั้งก้อน JSON Value ที่เป็นตัวเลขและ
+ * boolean จะถูกส่งมาเป็น primitive โดยไม่มีการสร้าง Object
+ * </p>
+ * <p>
+ * {@link CharSequence} ที่ส่งมาให้ใช้ได้เฉพาะภายใน Method ที่ถูกเรียกเท่านั้น
+ * หากต้องการเก็บไว้ต้องเรียก {@link CharSequence#toString()}
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public interface JSONHandler {
+	/**
+	 * <h3>Class JSONHandler.Builder</h3>
+	 * <p>
+	 * Class JSONHandler.Builder เป็น {@link JSONHandler} ตั้งต้นที่สร้าง
+	 * {@link JSON} จาก Event ที่ได้รับ โดยได้ผลลัพธ์เหมือนกับการสร้าง
+	 * {@link JSON} จาก JSON String โดยตรง
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	public static class Builder implements JSONHandler {
+		/**
+		 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+		 */
+		private final Util util;
+		/**
+		 * Attribute สำหรับจดจำ Properties ของ {@link JSON} ที่สร้าง
+		 */
+		private final Props props;
+		/**
+		 * Attribute สำหรับเก็บ JSON Object หรือ JSON Array ที่กำลังสร้าง
+		 * ในแต่ละระดับ
+		 */
+		private Data[] stack = new Data[32];
+		/**
+		 * Attribute สำหรับเก็บระดับปัจจุบันของข้อมูล
+		 */
+		private int depth;
+		/**
+		 * Attribute สำหรับจดจำ key ล่าสุดของ JSON Object
+		 */
+		private String key;
+		/**
+		 * Attribute สำหรับเก็บข้อมูล JSON ระดับบนสุด
+		 */
+		private Data root;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Builder}
+		 *
+		 * @param props
+		 *            Properties ของ {@link JSON} ที่สร้าง
+		 * @throws NullPointerException
+		 *             props เป็น null
+		 */
+		public Builder(Props props) throws NullPointerException {
+			this.util = JSON.util();
+			this.props = props.clone();
+		}
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Builder}
+		 */
+		public Builder() {
+			this(new Props());
+		}
+
+		/**
+		 * เพิ่ม {@link JSON.Data} ลงใน JSON Object หรือ JSON Array
+		 * ระดับปัจจุบัน
+		 *
+		 * @param data
+		 *            ข้อมูลที่ต้องการเพิ่ม
+		 * @return data
+		 */
+		private Data add(Data data) {
+			if (depth == 0) {
+				root = data;
+			} else if (stack[depth - 1].object != null) {
+				stack[depth - 1].object.put(key, data);
+			} else {
+				stack[depth - 1].array.add(data);
+			}
+			return data;
+		}
+
+		/**
+		 * เพิ่มระดับของข้อมูล
+		 *
+		 * @param data
+		 *            JSON Object หรือ JSON Array ของระดับใหม่
+		 */
+		private void push(Data data) {
+			if (depth == stack.length) {
+				stack = Arrays.copyOf(stack, depth * 2);
+			}
+			add(data);
+			stack[depth++] = data;
+		}
+
+		@Override
+		public void startObject() {
+			Data data = util.newData();
+			data.object = util.newObject();
+			push(data);
+		}
+
+		@Override
+		public void endObject() {
+			stack[--depth] = null;
+		}
+
+		@Override
+		public void startArray() {
+			Data data = util.newData();
+			data.array = util.newArray(-1);
+			push(data);
+		}
+
+		@Override
+		public void endArray() {
+			stack[--depth] = null;
+		}
+
+		@Override
+		public void key(CharSequence key) {
+			this.key = key.toString();
+		}
+
+		@Override
+		public void value(CharSequence value) {
+			String text = value.toString();
+			add(util.newData()).value = props.dateParsing
+					&& util.isDateFormat(text) ? util.toDate(text) : text;
+		}
+
+		@Override
+		public void value(long value) {
+			add(util.newData()).value = Scalar.narrow(value);
+		}
+
+		@Override
+		public void value(double value) {
+			add(util.newData()).value = Scalar.narrow(value);
+		}
+
+		@Override
+		public void value(boolean value) {
+			add(util.newData()).value = value;
+		}
+
+		@Override
+		public void number(CharSequence value) {
+			add(util.newData()).value = new JSONNumber(value.toString());
+		}
+
+		@Override
+		public void nullValue() {
+			add(util.newData());
+		}
+
+		/**
+		 * เรียก {@link JSON} ที่สร้างจาก Event ที่ได้รับ
+		 *
+		 * @return {@link JSON} ที่สร้างขึ้น
+		 */
+		public JSON get() {
+			return new JSON(root == null ? util.newData() : root, props);
+		}
+	}
+
+	/**
+	 * Event เมื่อพบจุดเริ่มต้นของ JSON Object
+	 */
+	public void startObject();
+
+	/**
+	 * Event เมื่อพบจุดสิ้นสุดของ JSON Object
+	 */
+	public void endObject();
+
+	/**
+	 * Event เมื่อพบจุดเริ่มต้นของ JSON Array
+	 */
+	public void startArray();
+
+	/**
+	 * Event เมื่อพบจุดสิ้นสุดของ JSON Array
+	 */
+	public void endArray();
+
+	/**
+	 * Event เมื่อพบ key ของ JSON Object
+	 *
+	 * @param key
+	 *            key ของ JSON Object
+	 */
+	public void key(CharSequence key);
+
+	/**
+	 * Event เมื่อพบ JSON Value ที่เป็นข้อความ
+	 *
+	 * @param value
+	 *            ข้อความของ JSON Value
+	 */
+	public void value(CharSequence value);
+
+	/**
+	 * Event เมื่อพบ JSON Value ที่เป็นจำนวนเต็ม
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value
+	 */
+	public void value(long value);
+
+	/**
+	 * Event เมื่อพบ JSON Value ที่เป็นจำนวนทศนิยม
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value
+	 */
+	public void value(double value);
+
+	/**
+	 * Event เมื่อพบ JSON Value ที่เป็น boolean
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value
+	 */
+	public void value(boolean value);
+
+	/**
+	 * Event เมื่อพบ JSON Value ที่เป็นตัวเลขซึ่งไม่สามารถส่งเป็น
+	 * <code>long</code> หรือ <code>double</code> ได้โดยไม่สูญเสียค่า
+	 * หรือเมื่อกำหนด {@link Props#numberParsing} เป็น false
+	 * (ค่าตั้งต้นจะแปลงเป็น <code>long</code> หรือ <code>double</code>
+	 * แล้วส่งต่อให้ {@link #value(long)} หรือ {@link #value(double)})
+	 *
+	 * @param value
+	 *            ข้อความของตัวเลข
+	 */
+	public default void number(CharSequence value) {
+		if (Scalar.kind(value) == Scalar.INTEGER) {
+			value(Scalar.toLong(value));
+		} else {
+			double number = Scalar.toDouble(value);
+			if (Double.isInfinite(number)) {
+				value(value);
+			} else value(number);
+		}
+	}
+
+	/**
+	 * Event เมื่อพบ JSON Value ที่เป็น null
+	 */
+	public void nullValue();
+}
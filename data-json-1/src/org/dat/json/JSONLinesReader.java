@@ -0,0 +1,337 @@
+package org.dat.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Class JSONLinesReader</h3>
+ * <p>
+ * Class JSONLinesReader เป็น Class สำหรับอ่านข้อมูลแบบ NDJSON (JSON Lines)
+ * ซึ่งมี JSON หนึ่งชุดต่อหนึ่งบรรทัด จาก {@link InputStream} ที่เข้ารหัสแบบ
+ * UTF-8 โดยแบ่งบรรทัดเป็นชุด (batch) ให้ {@link ForkJoinPool#commonPool()}
+ * อ่านแบบขนานแล้วส่งผลลัพธ์ตามลำดับของบรรทัด ทั้งนี้จะอ่านข้อมูลล่วงหน้าไม่เกิน
+ * 1 ชุดต่อ Thread (จึงอ่านพร้อมกันไม่เกินจำนวน Thread ที่กำหนด)
+ * เพื่อไม่ให้ใช้หน่วยความจำเกินจำเป็นเมื่อผู้ใช้ทำงานช้ากว่า
+ * </p>
+ * <p>
+ * บรรทัดที่ว่างหรือมีแต่ whitespace จะถูกข้ามไป
+ * </p>
+ *
+ * @param <T>
+ *            ชนิดของข้อมูลที่ได้จากแต่ละบรรทัด ({@link JSON} หรือ Class
+ *            ที่แปลงได้ด้วย {@link JSON#get(Class)})
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public class JSONLinesReader<T> implements Iterator<T>, Closeable {
+	/**
+	 * <h3>Class JSONLinesReader.Batch</h3>
+	 * <p>
+	 * Class JSONLinesReader.Batch เป็น Class สำหรับเก็บผลลัพธ์จากการอ่าน
+	 * บรรทัดหนึ่งชุด
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Batch {
+		/**
+		 * Attribute สำหรับเก็บข้อมูลที่อ่านได้
+		 */
+		Object[] records = new Object[16];
+		/**
+		 * Attribute สำหรับเก็บจำนวนข้อมูลที่อ่านได้
+		 */
+		int count;
+		/**
+		 * Attribute สำหรับเก็บจำนวนบรรทัดที่อ่าน
+		 */
+		int lines;
+		/**
+		 * Attribute สำหรับเก็บข้อผิดพลาดที่พบ (ถ้ามี) ณ บรรทัดที่
+		 * {@link #lines}
+		 */
+		RuntimeException error;
+	}
+
+	/**
+	 * ขนาดตั้งต้นของข้อมูลแต่ละชุด (byte)
+	 */
+	protected static final int BATCH_SIZE = 1 << 16;
+
+	/**
+	 * Attribute สำหรับใช้ในการเก็บ Properties ของ {@link JSON}
+	 * ที่สร้างจากข้อมูลที่อ่านได้
+	 */
+	public final Props props;
+	/**
+	 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+	 */
+	protected final Util util;
+	/**
+	 * Attribute สำหรับจดจำแหล่งข้อมูล
+	 */
+	protected final InputStream input;
+	/**
+	 * Attribute สำหรับจดจำชนิดของข้อมูลที่ได้จากแต่ละบรรทัด
+	 */
+	protected final Class<T> type;
+	/**
+	 * Attribute สำหรับจดจำ {@link ForkJoinPool} ที่ใช้อ่านข้อมูล (null
+	 * หากอ่านใน Thread ของผู้เรียก)
+	 */
+	private final ForkJoinPool pool;
+	/**
+	 * Attribute สำหรับจดจำจำนวนชุดสูงสุดที่อ่านล่วงหน้าได้
+	 */
+	private final int capacity;
+	/**
+	 * Attribute สำหรับเก็บงานอ่านข้อมูลที่ยังไม่ได้ส่งผลลัพธ์ ตามลำดับ
+	 */
+	private final ArrayDeque<ForkJoinTask<Batch>> pending = new ArrayDeque<>();
+
+	/**
+	 * Attribute สำหรับเก็บข้อมูลที่อ่านจาก {@link #input} แต่ยังไม่ครบบรรทัด
+	 */
+	private byte[] buf = new byte[BATCH_SIZE];
+	/**
+	 * Attribute สำหรับเก็บจำนวน byte ที่อยู่ใน {@link #buf}
+	 */
+	private int limit;
+	/**
+	 * Attribute สำหรับจดจำว่าอ่านข้อมูลจาก {@link #input} แล้วหรือยัง
+	 */
+	private boolean started;
+	/**
+	 * Attribute สำหรับจดจำว่าอ่านข้อมูลจาก {@link #input} ครบแล้วหรือยัง
+	 */
+	private boolean eof;
+	/**
+	 * Attribute สำหรับเก็บข้อมูลชุดปัจจุบัน
+	 */
+	private Batch batch;
+	/**
+	 * Attribute สำหรับเก็บลำดับของข้อมูลถัดไปในชุดปัจจุบัน
+	 */
+	private int index;
+	/**
+	 * Attribute สำหรับเก็บจำนวนบรรทัดของชุดก่อนหน้าทั้งหมด
+	 */
+	private long line;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONLinesReader}
+	 *
+	 * @param input
+	 *            {@link InputStream} ของข้อมูล NDJSON
+	 * @param type
+	 *            ชนิดของข้อมูลที่ได้จากแต่ละบรรทัด
+	 * @param props
+	 *            Properties ของ {@link JSON} ที่สร้างจากข้อมูลที่อ่านได้
+	 * @param threads
+	 *            จำนวน Thread สูงสุดที่ใช้อ่านข้อมูล (น้อยกว่า 2
+	 *            หมายถึงอ่านใน Thread ของผู้เรียก)
+	 * @throws NullPointerException
+	 *             input, type หรือ props เป็น null
+	 */
+	public JSONLinesReader(InputStream input, Class<T> type, Props props,
+			int threads) throws NullPointerException {
+		if ((this.input = input) == null || (this.type = type) == null)
+			throw new NullPointerException();
+		this.props = props.clone();
+		this.util = JSON.util();
+		this.pool = threads > 1 ? ForkJoinPool.commonPool() : null;
+		this.capacity = threads > 1 ? threads : 1;
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONLinesReader} ที่อ่านข้อมูลด้วย
+	 * Thread เท่ากับจำนวน Processor
+	 *
+	 * @param input
+	 *            {@link InputStream} ของข้อมูล NDJSON
+	 * @param type
+	 *            ชนิดของข้อมูลที่ได้จากแต่ละบรรทัด
+	 * @throws NullPointerException
+	 *             input หรือ type เป็น null
+	 */
+	public JSONLinesReader(InputStream input, Class<T> type)
+			throws NullPointerException {
+		this(input, type, new Props(),
+				Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * อ่านข้อมูลที่มีบรรทัดครบถ้วนชุดถัดไปจาก {@link #input}
+	 *
+	 * @return ข้อมูลชุดถัดไป
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	private byte[] chunk() throws IOException {
+		for (;;) {
+			for (int r; limit < buf.length; limit += r) {
+				if ((r = input.read(buf, limit, buf.length - limit)) < 0) {
+					eof = true;
+					break;
+				}
+			}
+			int from = 0;
+			if (!started) {
+				started = true;
+				if (limit >= 3 && buf[0] == (byte) 0xEF
+						&& buf[1] == (byte) 0xBB && buf[2] == (byte) 0xBF) {
+					from = 3;
+				}
+			}
+			int end = limit;
+			if (!eof) {
+				while (--end >= from && buf[end] != '\n') {}
+				end++;
+			}
+			if (end > from || eof) {
+				byte[] chunk = Arrays.copyOfRange(buf, from, end);
+				System.arraycopy(buf, end, buf, 0, limit -= end);
+				return chunk;
+			}
+			buf = Arrays.copyOf(buf, buf.length * 2);
+		}
+	}
+
+	/**
+	 * อ่าน JSON ของแต่ละบรรทัดในข้อมูลหนึ่งชุด
+	 *
+	 * @param chunk
+	 *            ข้อมูลที่มีบรรทัดครบถ้วน
+	 * @return ผลลัพธ์จากการอ่าน
+	 */
+	private Batch parse(byte[] chunk) {
+		Batch batch = new Batch();
+		try {
+			for (int start = 0, end; start < chunk.length; start = end + 1) {
+				for (end = start; end < chunk.length && chunk[end] != '\n';) {
+					end++;
+				}
+				int from = start, to = end;
+				while (from < to && (chunk[from] & 0xFF) <= ' ') {
+					from++;
+				}
+				while (to > from && (chunk[to - 1] & 0xFF) <= ' ') {
+					to--;
+				}
+				if (from < to) {
+					byte[] line = Arrays.copyOfRange(chunk, from, to);
+					JSON json = new JSON(new Parser(util, props,
+							new Source.Bytes(line, 0, line.length)).parse(),
+							props);
+					if (batch.count == batch.records.length) {
+						batch.records = Arrays.copyOf(batch.records,
+								batch.count * 2);
+					}
+					batch.records[batch.count++] = type == JSON.class ? json
+							: json.get(type);
+				}
+				batch.lines++;
+			}
+		} catch (IOException e) {
+			batch.error = new UncheckedIOException(e);
+		} catch (RuntimeException e) {
+			batch.error = e;
+		}
+		return batch;
+	}
+
+	/**
+	 * อ่านข้อมูลชุดถัดไปจนกว่างานอ่านล่วงหน้าจะเต็ม
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	private void fill() throws IOException {
+		while (!eof && pending.size() < capacity) {
+			byte[] chunk = chunk();
+			ForkJoinTask<Batch> task = ForkJoinTask.adapt(() -> parse(chunk));
+			if (pool == null) {
+				task.invoke();
+			} else {
+				pool.execute(task);
+			}
+			pending.add(task);
+		}
+	}
+
+	/**
+	 * ตรวจสอบว่ายังมีข้อมูลเหลือให้อ่านหรือไม่
+	 *
+	 * @return true หากยังมีข้อมูลเหลือให้อ่าน
+	 * @throws UncheckedIOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลบรรทัดถัดไปไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	@Override
+	public boolean hasNext()
+			throws UncheckedIOException, IllegalArgumentException {
+		while (batch == null || index == batch.count) {
+			if (batch != null) {
+				if (batch.error instanceof IllegalArgumentException)
+					throw new IllegalArgumentException(
+							"Line " + (line + batch.lines + 1) + ": "
+									+ batch.error.getMessage(),
+							batch.error);
+				else if (batch.error != null) throw batch.error;
+				line += batch.lines;
+				batch = null;
+			}
+			try {
+				fill();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			if (pending.isEmpty()) return false;
+			batch = pending.poll().join();
+			index = 0;
+		}
+		return true;
+	}
+
+	/**
+	 * อ่านข้อมูลของบรรทัดถัดไป
+	 *
+	 * @return ข้อมูลของบรรทัดถัดไป
+	 * @throws NoSuchElementException
+	 *             ไม่มีข้อมูลเหลือให้อ่าน
+	 * @throws UncheckedIOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลบรรทัดถัดไปไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	@Override
+	public T next() throws NoSuchElementException, UncheckedIOException,
+			IllegalArgumentException {
+		if (!hasNext()) throw new NoSuchElementException();
+		return type.cast(batch.records[index++]);
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (ForkJoinTask<Batch> task : pending) {
+			task.cancel(false);
+		}
+		pending.clear();
+		eof = true;
+		batch = null;
+		input.close();
+	}
+}
@@ -0,0 +1,104 @@
+package org.dat.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Class JSONLinesWriter</h3>
+ * <p>
+ * Class JSONLinesWriter เป็น Class สำหรับเขียนข้อมูลแบบ NDJSON (JSON Lines)
+ * ลงใน {@link OutputStream} โดยเข้ารหัสแบบ UTF-8 ผ่าน buffer จาก pool
+ * ของ Thread ปัจจุบันโดยตรงทีละรายการ (ไม่สร้าง String ของแต่ละรายการ)
+ * ตัวขึ้นบรรทัดใหม่ภายใน String จะถูก escape
+ * เพื่อให้แต่ละรายการอยู่ในบรรทัดเดียวเสมอ
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public class JSONLinesWriter implements Closeable, Flushable {
+	/**
+	 * Attribute สำหรับใช้ในการเก็บ Properties ที่ใช้แปลงข้อมูลเป็น JSON
+	 * String
+	 */
+	public final Props props;
+	/**
+	 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+	 */
+	protected final Util util;
+	/**
+	 * Attribute สำหรับจดจำ {@link OutputStream} ปลายทาง
+	 */
+	private final OutputStream output;
+	/**
+	 * Attribute สำหรับจดจำตัวเข้ารหัสข้อมูลที่เขียนลงใน {@link #output}
+	 */
+	private final Output out;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONLinesWriter}
+	 *
+	 * @param output
+	 *            {@link OutputStream} สำหรับเขียนข้อมูล NDJSON
+	 * @param props
+	 *            Properties ที่ใช้แปลงข้อมูลเป็น JSON String
+	 * @throws NullPointerException
+	 *             output หรือ props เป็น null
+	 */
+	public JSONLinesWriter(OutputStream output, Props props)
+			throws NullPointerException {
+		this.props = props.clone();
+		this.util = JSON.util();
+		this.out = new Output(output);
+		this.output = output;
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONLinesWriter}
+	 *
+	 * @param output
+	 *            {@link OutputStream} สำหรับเขียนข้อมูล NDJSON
+	 * @throws NullPointerException
+	 *             output เป็น null
+	 */
+	public JSONLinesWriter(OutputStream output) throws NullPointerException {
+		this(output, new Props());
+	}
+
+	/**
+	 * เขียนข้อมูลหนึ่งรายการเป็นหนึ่งบรรทัด
+	 *
+	 * @param value
+	 *            {@link JSON} หรือข้อมูลที่แปลงเป็น JSON ได้
+	 *            (เขียนด้วย {@link #props} เสมอ)
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 */
+	public void write(Object value)
+			throws IOException, IllegalArgumentException {
+		util.writeObject(out, value, props);
+		out.append('\n');
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			out.close();
+		} finally {
+			output.close();
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package org.dat.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * <h3>Class JSONNumber</h3>
+ * <p>
+ * Class JSONNumber เป็น {@link Number} ที่เก็บตัวเลขของ JSON Value
+ * ไว้ในรูปของข้อความต้นฉบับ และแปลงค่าเมื่อมีการเรียกใช้เท่านั้น
+ * จึงไม่สูญเสียค่าของตัวเลขที่ไม่สามารถเก็บใน <code>long</code> หรือ
+ * <code>double</code> ได้อย่างถูกต้อง (เช่น รหัสที่ยาวเกิน 2<sup>53</sup>
+ * หรือจำนวนเงิน) โดยเรียกค่าที่ถูกต้องได้ด้วย {@link #toBigDecimal()} หรือ
+ * {@link #toBigInteger()} และจะถูกเขียนกลับเป็น JSON String ตามต้นฉบับ
+ * </p>
+ * <p>
+ * ตัวเลขจะถูกเก็บเป็น JSONNumber เมื่อไม่สามารถแปลงเป็น {@link Integer},
+ * {@link Long} หรือ {@link Double} ได้โดยไม่สูญเสียค่า หรือเมื่อกำหนด
+ * {@link JSON.Props#numberParsing} เป็น false
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public final class JSONNumber extends Number {
+	/**
+	 * Field สำหรับ {@link java.io.Serializable}
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Attribute สำหรับเก็บข้อความของตัวเลข
+	 */
+	private final String value;
+	/**
+	 * Attribute สำหรับเก็บค่าที่แปลงเป็น {@link BigDecimal} แล้ว (null
+	 * หากยังไม่ได้แปลง)
+	 */
+	private transient BigDecimal decimal;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONNumber} จากข้อความที่ผ่านการตรวจสอบ
+	 * ด้วย {@link Scalar#kind(CharSequence)} แล้ว
+	 *
+	 * @param value
+	 *            ข้อความของตัวเลขตามรูปแบบของ JSON
+	 */
+	JSONNumber(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Function สำหรับสร้าง {@link JSONNumber} จากข้อความที่ระบุ
+	 *
+	 * @param value
+	 *            ข้อความของตัวเลขตามรูปแบบของ JSON
+	 * @return {@link JSONNumber} ที่สร้างขึ้น
+	 * @throws NullPointerException
+	 *             value เป็น null
+	 * @throws NumberFormatException
+	 *             value ไม่อยู่ในรูปแบบของตัวเลขของ JSON
+	 */
+	public static JSONNumber valueOf(String value)
+			throws NullPointerException, NumberFormatException {
+		int kind = Scalar.kind(value);
+		if (kind != Scalar.INTEGER && kind != Scalar.DECIMAL)
+			throw new NumberFormatException(value);
+		return new JSONNumber(value);
+	}
+
+	/**
+	 * แปลงค่าเป็น {@link BigDecimal} โดยไม่สูญเสียค่า
+	 *
+	 * @return ค่าในรูปแบบของ {@link BigDecimal}
+	 */
+	public BigDecimal toBigDecimal() {
+		BigDecimal decimal = this.decimal;
+		return decimal == null ? this.decimal = new BigDecimal(value) : decimal;
+	}
+
+	/**
+	 * แปลงค่าเป็น {@link BigInteger} (ตัดทศนิยมทิ้ง)
+	 *
+	 * @return ค่าในรูปแบบของ {@link BigInteger}
+	 */
+	public BigInteger toBigInteger() {
+		for (int i = value.length() - 1; i >= 0; i--) {
+			char c = value.charAt(i);
+			if (c == '.' || c == 'e' || c == 'E')
+				return toBigDecimal().toBigInteger();
+		}
+		return new BigInteger(value);
+	}
+
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+
+	@Override
+	public long longValue() {
+		return Scalar.kind(value) == Scalar.INTEGER ? Scalar.toLong(value)
+				: toBigDecimal().longValue();
+	}
+
+	@Override
+	public float floatValue() {
+		return Float.parseFloat(value);
+	}
+
+	@Override
+	public double doubleValue() {
+		return Scalar.toDouble(value);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj == this || obj instanceof JSONNumber && toBigDecimal()
+				.compareTo(((JSONNumber) obj).toBigDecimal()) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		BigDecimal decimal = toBigDecimal();
+		return decimal.signum() == 0 ? 0
+				: decimal.stripTrailingZeros().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return value;
+	}
+}
@@ -0,0 +1,320 @@
+package org.dat.json;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <h3>Class JSONProjection</h3>
+ * <p>
+ * Class JSONProjection เป็น Class สำหรับเก็บกลุ่มของ path ที่ต้องการ
+ * ซึ่งแปลงเป็นโครงสร้างแบบ tree ไว้แล้ว (immutable) เพื่อใช้กับ
+ * {@link JSON.Props#projection} โดยข้อมูลที่ไม่อยู่ใน path
+ * จะถูกอ่านข้ามโดยไม่สร้าง Object ใดๆ และได้ผลลัพธ์เป็น {@link JSON}
+ * ที่มีเฉพาะส่วนที่ต้องการ
+ * </p>
+ * <p>
+ * path มีรูปแบบ <code>$.order.items[*].sku</code> โดยแต่ละส่วนสามารถเป็น
+ * <code>.key</code>, <code>['key']</code>, <code>.*</code>,
+ * <code>[index]</code> หรือ <code>[*]</code> (ละ <code>$</code> ได้)
+ * ข้อมูลที่ตรงกับปลายของ path จะถูกอ่านทั้งหมด ส่วน element ของ JSON
+ * Array ที่ไม่ตรงกับ path จะถูกเก็บเป็น null เพื่อให้ index ไม่เปลี่ยนแปลง
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public final class JSONProjection implements Serializable {
+	/**
+	 * <h3>Class JSONProjection.Node</h3>
+	 * <p>
+	 * Class JSONProjection.Node เป็นตำแหน่งหนึ่งใน tree ของ path
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static final class Node implements Serializable {
+		/**
+		 * Field สำหรับ {@link Serializable}
+		 */
+		private static final long serialVersionUID = 1L;
+		/**
+		 * ค่าว่างของ {@link #indexes}
+		 */
+		private static final Node[] NONE = {};
+
+		/**
+		 * Attribute สำหรับจดจำว่าเป็นปลายของ path หรือไม่ (อ่านข้อมูลทั้งหมด)
+		 */
+		boolean leaf;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งถัดไปตาม key ของ JSON Object
+		 */
+		Map<String, Node> names;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งถัดไปตาม index ของ JSON Array
+		 */
+		Node[] indexes = NONE;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งถัดไปของทุก key หรือทุก index
+		 */
+		Node any;
+
+		/**
+		 * เรียกตำแหน่งถัดไปตาม key ของ JSON Object
+		 *
+		 * @param key
+		 *            key ของ JSON Object
+		 * @return ตำแหน่งถัดไป หรือ null หาก key ไม่อยู่ใน path
+		 */
+		Node child(String key) {
+			Node node = names == null ? null : names.get(key);
+			return node == null ? any : node;
+		}
+
+		/**
+		 * เรียกตำแหน่งถัดไปตาม index ของ JSON Array
+		 *
+		 * @param index
+		 *            index ของ JSON Array
+		 * @return ตำแหน่งถัดไป หรือ null หาก index ไม่อยู่ใน path
+		 */
+		Node child(int index) {
+			Node node = index < indexes.length ? indexes[index] : null;
+			return node == null ? any : node;
+		}
+
+		/**
+		 * เรียกตำแหน่งถัดไปตาม key ของ JSON Object โดยสร้างใหม่หากยังไม่มี
+		 *
+		 * @param key
+		 *            key ของ JSON Object
+		 * @return ตำแหน่งถัดไป
+		 */
+		private Node name(String key) {
+			if (names == null) {
+				names = new HashMap<>();
+			}
+			return names.computeIfAbsent(key, k -> new Node());
+		}
+
+		/**
+		 * เรียกตำแหน่งถัดไปตาม index ของ JSON Array โดยสร้างใหม่หากยังไม่มี
+		 *
+		 * @param index
+		 *            index ของ JSON Array
+		 * @return ตำแหน่งถัดไป
+		 */
+		private Node index(int index) {
+			if (index >= indexes.length) {
+				indexes = Arrays.copyOf(indexes, index + 1);
+			}
+			return indexes[index] == null ? indexes[index] = new Node()
+					: indexes[index];
+		}
+
+		/**
+		 * เรียกตำแหน่งถัดไปของทุก key หรือทุก index
+		 * โดยสร้างใหม่หากยังไม่มี
+		 *
+		 * @return ตำแหน่งถัดไป
+		 */
+		private Node any() {
+			return any == null ? any = new Node() : any;
+		}
+
+		/**
+		 * รวม path ทั้งหมดของ node ที่ระบุเข้ากับ node นี้
+		 *
+		 * @param node
+		 *            node ที่ต้องการรวม
+		 */
+		private void merge(Node node) {
+			leaf |= node.leaf;
+			if (node.names != null) {
+				for (Map.Entry<String, Node> entry : node.names.entrySet()) {
+					name(entry.getKey()).merge(entry.getValue());
+				}
+			}
+			for (int i = 0; i < node.indexes.length; i++) {
+				if (node.indexes[i] != null) {
+					index(i).merge(node.indexes[i]);
+				}
+			}
+			if (node.any != null) {
+				any().merge(node.any);
+			}
+		}
+
+		/**
+		 * รวม path ของทุก key หรือทุก index เข้ากับ key และ index
+		 * ที่ระบุไว้โดยตรง เพื่อให้เรียกตำแหน่งถัดไปได้ในครั้งเดียว
+		 */
+		private void close() {
+			if (any != null) {
+				if (names != null) {
+					for (Node node : names.values()) {
+						node.merge(any);
+					}
+				}
+				for (Node node : indexes) {
+					if (node != null) {
+						node.merge(any);
+					}
+				}
+				any.close();
+			}
+			if (names != null) {
+				for (Node node : names.values()) {
+					node.close();
+				}
+			}
+			for (Node node : indexes) {
+				if (node != null) {
+					node.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Field สำหรับ {@link Serializable}
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Attribute สำหรับเก็บตำแหน่งเริ่มต้นของ tree (<code>$</code>)
+	 */
+	final Node root = new Node();
+	/**
+	 * Attribute สำหรับเก็บ path ทั้งหมด
+	 */
+	private final String[] paths;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONProjection}
+	 *
+	 * @param paths
+	 *            path ทั้งหมด
+	 * @throws NullPointerException
+	 *             path เป็น null
+	 * @throws IllegalArgumentException
+	 *             path ไม่ถูกต้อง
+	 */
+	private JSONProjection(String[] paths)
+			throws NullPointerException, IllegalArgumentException {
+		this.paths = paths;
+		for (String path : paths) {
+			add(path);
+		}
+		root.close();
+	}
+
+	/**
+	 * Function สำหรับสร้าง {@link JSONProjection} จาก path ที่ระบุ
+	 *
+	 * @param paths
+	 *            path ที่ต้องการ
+	 * @return {@link JSONProjection} ที่สร้างขึ้น
+	 * @throws NullPointerException
+	 *             path เป็น null
+	 * @throws IllegalArgumentException
+	 *             path ไม่ถูกต้อง
+	 */
+	public static JSONProjection compile(String... paths)
+			throws NullPointerException, IllegalArgumentException {
+		return new JSONProjection(paths.clone());
+	}
+
+	/**
+	 * Function สำหรับสร้าง {@link JSONProjection} จาก path ที่ระบุ
+	 *
+	 * @param paths
+	 *            path ที่ต้องการ
+	 * @return {@link JSONProjection} ที่สร้างขึ้น
+	 * @throws NullPointerException
+	 *             path เป็น null
+	 * @throws IllegalArgumentException
+	 *             path ไม่ถูกต้อง
+	 */
+	public static JSONProjection compile(Collection<String> paths)
+			throws NullPointerException, IllegalArgumentException {
+		return new JSONProjection(paths.toArray(new String[paths.size()]));
+	}
+
+	/**
+	 * เพิ่ม path ลงใน tree
+	 *
+	 * @param path
+	 *            path ที่ต้องการเพิ่ม
+	 * @throws NullPointerException
+	 *             path เป็น null
+	 * @throws IllegalArgumentException
+	 *             path ไม่ถูกต้อง
+	 */
+	private void add(String path)
+			throws NullPointerException, IllegalArgumentException {
+		Node node = root;
+		String value = path;
+		int length = path.length();
+		int i = path.startsWith("$") ? 1 : 0;
+		if (i == 0 && length > 0 && path.charAt(0) != '[') {
+			path = "." + path;
+			length++;
+		}
+		while (i < length) {
+			char c = path.charAt(i);
+			if (c == '.') {
+				int start = ++i;
+				while (i < length && path.charAt(i) != '.'
+						&& path.charAt(i) != '[') {
+					i++;
+				}
+				if (i == start) throw error(value);
+				String key = path.substring(start, i);
+				node = key.equals("*") ? node.any() : node.name(key);
+			} else if (c == '[' && i + 1 < length) {
+				char quote = path.charAt(++i);
+				if (quote == '\'' || quote == '"') {
+					int end = path.indexOf(quote, ++i);
+					if (end < 0 || end + 1 >= length
+							|| path.charAt(end + 1) != ']')
+						throw error(value);
+					node = node.name(path.substring(i, end));
+					i = end + 2;
+					continue;
+				}
+				int end = path.indexOf(']', i);
+				if (end < 0) throw error(value);
+				String index = path.substring(i, end).trim();
+				if (index.equals("*")) {
+					node = node.any();
+				} else if (Scalar.kind(index) == Scalar.INTEGER
+						&& index.charAt(0) != '-' && index.length() < 10) {
+					node = node.index(Integer.parseInt(index));
+				} else throw error(value);
+				i = end + 1;
+			} else throw error(value);
+		}
+		node.leaf = true;
+	}
+
+	/**
+	 * สร้าง Exception สำหรับ path ที่ไม่ถูกต้อง
+	 *
+	 * @param path
+	 *            path ที่ไม่ถูกต้อง
+	 * @return Exception ที่สร้างขึ้น
+	 */
+	private static IllegalArgumentException error(String path) {
+		return new IllegalArgumentException("Invalid path: " + path);
+	}
+
+	@Override
+	public String toString() {
+		return String.join(", ", paths);
+	}
+}
@@ -0,0 +1,524 @@
+package org.dat.json;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.dat.json.JSON.Data;
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Class JSONReader</h3>
+ * <p>
+ * Class JSONReader เป็น Class สำหรับอ่านข้อมูล JSON String ทีละ Token
+ * (pull parser) จาก {@link Reader} หรือ {@link InputStream} ผ่าน buffer
+ * ขนาดคงที่ ทำให้สามารถอ่านข้อมูลขนาดใหญ่ได้โดยใช้หน่วยความจำคงที่
+ * และสามารถสร้าง {@link JSON} เฉพาะส่วนที่ต้องการได้ด้วย
+ * {@link #nextJSON()}
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public class JSONReader implements Closeable {
+	/**
+	 * <h3>Enum JSONReader.Token</h3>
+	 * <p>
+	 * Enum JSONReader.Token เป็นชนิดของ Token ถัดไปที่จะอ่านได้จาก
+	 * {@link JSONReader}
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	public enum Token {
+		/**
+		 * จุดเริ่มต้นของ JSON Object (<code>'{'</code>)
+		 */
+		BEGIN_OBJECT,
+		/**
+		 * จุดสิ้นสุดของ JSON Object (<code>'}'</code>)
+		 */
+		END_OBJECT,
+		/**
+		 * จุดเริ่มต้นของ JSON Array (<code>'['</code>)
+		 */
+		BEGIN_ARRAY,
+		/**
+		 * จุดสิ้นสุดของ JSON Array (<code>']'</code>)
+		 */
+		END_ARRAY,
+		/**
+		 * key ของ JSON Object
+		 */
+		NAME,
+		/**
+		 * JSON Value
+		 */
+		VALUE,
+		/**
+		 * จุดสิ้นสุดของข้อมูล
+		 */
+		END
+	}
+
+	/**
+	 * ขนาดตั้งต้นของ buffer สำหรับอ่านข้อมูล
+	 */
+	protected static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * สถานะ: รอ JSON ระดับบนสุด
+	 */
+	private static final int DOCUMENT = 0;
+	/**
+	 * สถานะ: อ่าน JSON ระดับบนสุดครบแล้ว
+	 */
+	private static final int DOCUMENT_END = 1;
+	/**
+	 * สถานะ: รอ key ของ JSON Object
+	 */
+	private static final int OBJECT_NAME = 2;
+	/**
+	 * สถานะ: รอ value ของ JSON Object
+	 */
+	private static final int OBJECT_VALUE = 3;
+	/**
+	 * สถานะ: รอ <code>','</code> หรือ <code>'}'</code>
+	 */
+	private static final int OBJECT_NEXT = 4;
+	/**
+	 * สถานะ: รอ Element ของ JSON Array
+	 */
+	private static final int ARRAY_VALUE = 5;
+	/**
+	 * สถานะ: รอ <code>','</code> หรือ <code>']'</code>
+	 */
+	private static final int ARRAY_NEXT = 6;
+
+	/**
+	 * Attribute สำหรับใช้ในการเก็บ Properties ของ {@link JSON}
+	 * ที่สร้างจากข้อมูลที่อ่านได้
+	 */
+	public final Props props;
+	/**
+	 * Attribute สำหรับจดจำแหล่งข้อมูล JSON String
+	 */
+	protected final Source source;
+	/**
+	 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+	 */
+	protected final Util util;
+	/**
+	 * Attribute สำหรับใช้สร้าง {@link JSON} หรืออ่านข้าม JSON ทั้งก้อน
+	 */
+	protected final Parser parser;
+
+	/**
+	 * Attribute สำหรับเก็บสถานะของแต่ละระดับของข้อมูล
+	 */
+	private int[] stack = new int[32];
+	/**
+	 * Attribute สำหรับเก็บระดับปัจจุบันของข้อมูล
+	 */
+	private int depth = 1;
+	/**
+	 * Attribute สำหรับจดจำ Token ถัดไปที่ตรวจพบแล้ว
+	 */
+	private Token peeked;
+	/**
+	 * Attribute สำหรับจดจำว่า JSON Value ถัดไปถูกละไว้ (เช่น
+	 * <code>{"a":}</code>) หรือไม่
+	 */
+	private boolean omitted;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONReader}
+	 *
+	 * @param source
+	 *            แหล่งข้อมูล JSON String
+	 * @param props
+	 *            Properties ของ {@link JSON} ที่สร้างจากข้อมูลที่อ่านได้
+	 * @throws NullPointerException
+	 *             source หรือ props เป็น null
+	 */
+	JSONReader(Source source, Props props) throws NullPointerException {
+		this.props = props.clone();
+		this.util = JSON.util();
+		this.parser = new Parser(util, this.props, this.source = source);
+		stack[0] = DOCUMENT;
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONReader}
+	 *
+	 * @param reader
+	 *            {@link Reader} ของข้อมูล JSON String
+	 * @param props
+	 *            Properties ของ {@link JSON} ที่สร้างจากข้อมูลที่อ่านได้
+	 * @throws NullPointerException
+	 *             reader หรือ props เป็น null
+	 */
+	public JSONReader(Reader reader, Props props) throws NullPointerException {
+		this(new Source.Chars(reader, BUFFER_SIZE), props);
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONReader}
+	 *
+	 * @param reader
+	 *            {@link Reader} ของข้อมูล JSON String
+	 * @throws NullPointerException
+	 *             reader เป็น null
+	 */
+	public JSONReader(Reader reader) throws NullPointerException {
+		this(reader, new Props());
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONReader}
+	 *
+	 * @param value
+	 *            {@link InputStream} ของข้อมูล JSON String
+	 * @param charset
+	 *            Charset ที่เข้ารหัส value
+	 * @throws NullPointerException
+	 *             value หรือ charset เป็น null
+	 */
+	public JSONReader(InputStream value, Charset charset)
+			throws NullPointerException {
+		this(new InputStreamReader(value, charset));
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONReader} ที่อ่านข้อมูลจาก byte
+	 * โดยตรง โดยตรวจสอบการเข้ารหัสจาก Byte Order Mark หรือ byte แรกของข้อมูล
+	 *
+	 * @param value
+	 *            {@link InputStream} ของข้อมูล JSON String
+	 * @throws NullPointerException
+	 *             value เป็น null
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลจาก value ได้
+	 */
+	public JSONReader(InputStream value)
+			throws NullPointerException, IOException {
+		this(Source.of(value, BUFFER_SIZE), new Props());
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONReader}
+	 *
+	 * @param value
+	 *            ข้อมูล JSON String
+	 * @throws NullPointerException
+	 *             value เป็น null
+	 */
+	public JSONReader(String value) throws NullPointerException {
+		this(new Source.Chars(value.toCharArray()), new Props());
+	}
+
+	/**
+	 * ตรวจสอบชนิดของ Token ถัดไปโดยไม่อ่านข้าม Token นั้น
+	 *
+	 * @return ชนิดของ Token ถัดไป
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	public Token peek() throws IOException, IllegalArgumentException {
+		if (peeked != null) return peeked;
+		int c;
+		switch (stack[depth - 1]) {
+		case OBJECT_NEXT:
+			if (source.separator('}')) return peeked = Token.END_OBJECT;
+			stack[depth - 1] = OBJECT_NAME;
+			return peek();
+		case OBJECT_NAME:
+			if (source.member('}') == '}') return peeked = Token.END_OBJECT;
+			return peeked = Token.NAME;
+		case OBJECT_VALUE:
+			if (source.empty('}')) {
+				omitted = true;
+				return peeked = Token.VALUE;
+			}
+			return peeked = value(source.peek());
+		case ARRAY_NEXT:
+			if (source.separator(']')) return peeked = Token.END_ARRAY;
+			stack[depth - 1] = ARRAY_VALUE;
+			return peek();
+		case ARRAY_VALUE:
+			if ((c = source.member(']')) == ']')
+				return peeked = Token.END_ARRAY;
+			return peeked = value(c);
+		case DOCUMENT:
+			if ((c = source.peek()) < 0) return peeked = Token.END;
+			return peeked = value(c);
+		default:
+			if (source.peek() >= 0)
+				throw source.error("Unexpected character");
+			return peeked = Token.END;
+		}
+	}
+
+	/**
+	 * ตรวจสอบชนิดของ JSON จากตัวอักษรแรก
+	 *
+	 * @param c
+	 *            ตัวอักษรแรกของ JSON
+	 * @return ชนิดของ Token
+	 * @throws IllegalArgumentException
+	 *             c ไม่ใช่ตัวอักษรแรกของ JSON ที่ถูกต้อง
+	 */
+	private Token value(int c) throws IllegalArgumentException {
+		switch (c) {
+		case '{':
+			return Token.BEGIN_OBJECT;
+		case '[':
+			return Token.BEGIN_ARRAY;
+		case '}':
+		case ']':
+			throw source.error("Unexpected character");
+		default:
+			return Token.VALUE;
+		}
+	}
+
+	/**
+	 * ตรวจสอบว่า Token ถัดไปเป็นชนิดที่ระบุ
+	 *
+	 * @param token
+	 *            ชนิดของ Token ที่ต้องการ
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่ token
+	 */
+	private void expect(Token token) throws IOException, IllegalStateException {
+		if (peek() != token)
+			throw new IllegalStateException("Expected " + token + " but was "
+					+ peeked + " at position " + source.position() + ".");
+	}
+
+	/**
+	 * บันทึกว่าอ่าน JSON ใน ระดับปัจจุบันครบแล้ว
+	 */
+	private void consumed() {
+		peeked = null;
+		omitted = false;
+		switch (stack[depth - 1]) {
+		case OBJECT_VALUE:
+			stack[depth - 1] = OBJECT_NEXT;
+			break;
+		case ARRAY_VALUE:
+			stack[depth - 1] = ARRAY_NEXT;
+			break;
+		case DOCUMENT:
+			stack[depth - 1] = DOCUMENT_END;
+			break;
+		}
+	}
+
+	/**
+	 * เพิ่มระดับของข้อมูล
+	 *
+	 * @param scope
+	 *            สถานะของระดับใหม่
+	 */
+	private void push(int scope) {
+		if (depth == stack.length) {
+			stack = Arrays.copyOf(stack, depth * 2);
+		}
+		stack[depth++] = scope;
+		peeked = null;
+	}
+
+	/**
+	 * อ่านจุดเริ่มต้นของ JSON Object
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่ {@link Token#BEGIN_OBJECT}
+	 */
+	public void beginObject() throws IOException, IllegalStateException {
+		expect(Token.BEGIN_OBJECT);
+		source.skip();
+		push(OBJECT_NAME);
+	}
+
+	/**
+	 * อ่านจุดสิ้นสุดของ JSON Object
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่ {@link Token#END_OBJECT}
+	 */
+	public void endObject() throws IOException, IllegalStateException {
+		expect(Token.END_OBJECT);
+		source.skip();
+		depth--;
+		consumed();
+	}
+
+	/**
+	 * อ่านจุดเริ่มต้นของ JSON Array
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่ {@link Token#BEGIN_ARRAY}
+	 */
+	public void beginArray() throws IOException, IllegalStateException {
+		expect(Token.BEGIN_ARRAY);
+		source.skip();
+		push(ARRAY_VALUE);
+	}
+
+	/**
+	 * อ่านจุดสิ้นสุดของ JSON Array
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่ {@link Token#END_ARRAY}
+	 */
+	public void endArray() throws IOException, IllegalStateException {
+		expect(Token.END_ARRAY);
+		source.skip();
+		depth--;
+		consumed();
+	}
+
+	/**
+	 * ตรวจสอบว่ายังมี Element ถัดไปใน JSON Object หรือ JSON Array
+	 * ปัจจุบันหรือไม่
+	 *
+	 * @return true หากยังมี Element ถัดไป
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	public boolean hasNext() throws IOException {
+		Token token = peek();
+		return token != Token.END_OBJECT
+				&& token != Token.END_ARRAY
+				&& token != Token.END;
+	}
+
+	/**
+	 * อ่าน key ถัดไปของ JSON Object
+	 *
+	 * @return key ที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่ {@link Token#NAME}
+	 */
+	public String nextName() throws IOException, IllegalStateException {
+		expect(Token.NAME);
+		String name = source.key(source.peek());
+		stack[depth - 1] = OBJECT_VALUE;
+		peeked = null;
+		return name;
+	}
+
+	/**
+	 * อ่าน JSON Value ถัดไป
+	 *
+	 * @return ค่าของ JSON Value ที่อ่านได้ ({@link String}, {@link Number},
+	 *         {@link Boolean}, {@link java.util.Date} หรือ null)
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่ {@link Token#VALUE}
+	 */
+	public Object nextValue() throws IOException, IllegalStateException {
+		expect(Token.VALUE);
+		Object value = null;
+		if (!omitted) {
+			int c = source.peek();
+			if (c == '"' || c == '\'') {
+				source.skip();
+				value = util.toValue(source.string((char) c), true, props);
+			} else {
+				value = util.toValue(source.bare(depth > 1), false,
+						props);
+			}
+		}
+		consumed();
+		return value;
+	}
+
+	/**
+	 * อ่าน JSON ถัดไปทั้งก้อน (รวมถึง JSON Object หรือ JSON Array
+	 * ที่ซ้อนอยู่ภายใน) แล้วสร้างเป็น {@link JSON}
+	 *
+	 * @return {@link JSON} ของข้อมูลที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่จุดเริ่มต้นของ JSON
+	 */
+	public JSON nextJSON() throws IOException, IllegalStateException {
+		boolean nested = start();
+		Data data = omitted ? util.newData() : parser.value(nested);
+		consumed();
+		return new JSON(data, props);
+	}
+
+	/**
+	 * อ่านข้าม JSON ถัดไปทั้งก้อน โดยไม่สร้างข้อมูลใดๆ หาก Token ถัดไปเป็น
+	 * {@link Token#NAME} จะอ่านข้ามทั้ง key และ value
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่จุดเริ่มต้นของ JSON หรือ key
+	 */
+	public void skipValue() throws IOException, IllegalStateException {
+		if (peek() == Token.NAME) {
+			nextName();
+		}
+		boolean nested = start();
+		if (!omitted) {
+			parser.skip(nested);
+		}
+		consumed();
+	}
+
+	/**
+	 * ตรวจสอบว่า Token ถัดไปเป็นจุดเริ่มต้นของ JSON
+	 *
+	 * @return true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalStateException
+	 *             Token ถัดไปไม่ใช่จุดเริ่มต้นของ JSON
+	 */
+	private boolean start() throws IOException, IllegalStateException {
+		Token token = peek();
+		if (token != Token.VALUE
+				&& token != Token.BEGIN_OBJECT
+				&& token != Token.BEGIN_ARRAY)
+			throw new IllegalStateException("Expected JSON but was " + token
+					+ " at position " + source.position() + ".");
+		return depth > 1;
+	}
+
+	/**
+	 * เรียกตำแหน่งปัจจุบันของการอ่านข้อมูล
+	 *
+	 * @return ตำแหน่งปัจจุบัน นับจากจุดเริ่มต้นของข้อมูล
+	 */
+	public long position() {
+		return source.position();
+	}
+
+	@Override
+	public void close() throws IOException {
+		source.close();
+	}
+}
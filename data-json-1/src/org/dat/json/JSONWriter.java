@@ -0,0 +1,467 @@
+package org.dat.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Class JSONWriter</h3>
+ * <p>
+ * Class JSONWriter เป็น Class สำหรับเขียน JSON String ทีละ Token
+ * (generator) ลงใน {@link Writer}, {@link OutputStream} หรือ
+ * {@link WritableByteChannel} โดยตรง โดยไม่ต้องสร้าง {@link JSON}
+ * ขึ้นมาก่อน ทั้งนี้ใช้กฎการครอบ quote และการ escape ตาม {@link Props}
+ * เช่นเดียวกับ {@link JSON#toString()} และตรวจสอบลำดับของ Token
+ * ทุกครั้งที่เขียน
+ * </p>
+ * <p>
+ * ต่างจากการเขียนจาก {@link JSON} ตรงที่ key ที่มีค่าเป็น null
+ * จะถูกเขียนตามที่ได้รับ
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public class JSONWriter implements Closeable, Flushable {
+	/**
+	 * สถานะ: รอ JSON ระดับบนสุด
+	 */
+	private static final int DOCUMENT = 0;
+	/**
+	 * สถานะ: เขียน JSON ระดับบนสุดครบแล้ว
+	 */
+	private static final int DOCUMENT_END = 1;
+	/**
+	 * สถานะ: รอ key แรกของ JSON Object
+	 */
+	private static final int OBJECT_FIRST = 2;
+	/**
+	 * สถานะ: รอ key ถัดไปของ JSON Object
+	 */
+	private static final int OBJECT_NAME = 3;
+	/**
+	 * สถานะ: รอ value ของ JSON Object
+	 */
+	private static final int OBJECT_VALUE = 4;
+	/**
+	 * สถานะ: รอ Element แรกของ JSON Array
+	 */
+	private static final int ARRAY_FIRST = 5;
+	/**
+	 * สถานะ: รอ Element ถัดไปของ JSON Array
+	 */
+	private static final int ARRAY_VALUE = 6;
+
+	/**
+	 * Attribute สำหรับใช้ในการเก็บ Properties ที่ใช้เขียน JSON String
+	 */
+	public final Props props;
+	/**
+	 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+	 */
+	protected final Util util;
+	/**
+	 * Attribute สำหรับจดจำตัวเก็บผลลัพธ์
+	 */
+	protected final Appendable out;
+	/**
+	 * Attribute สำหรับจดจำปลายทางที่ต้องปิดเมื่อเรียก {@link #close()}
+	 */
+	private final Closeable target;
+
+	/**
+	 * Attribute สำหรับเก็บสถานะของแต่ละระดับของข้อมูล
+	 */
+	private int[] stack = new int[32];
+	/**
+	 * Attribute สำหรับเก็บระดับปัจจุบันของข้อมูล
+	 */
+	private int depth = 1;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONWriter}
+	 *
+	 * @param out
+	 *            ตัวเก็บผลลัพธ์
+	 * @param target
+	 *            ปลายทางที่ต้องปิดเมื่อเรียก {@link #close()}
+	 * @param props
+	 *            Properties ที่ใช้เขียน JSON String
+	 * @throws NullPointerException
+	 *             props เป็น null
+	 */
+	private JSONWriter(Appendable out, Closeable target, Props props)
+			throws NullPointerException {
+		this.props = props.clone();
+		this.util = JSON.util();
+		this.out = out;
+		this.target = target;
+		stack[0] = DOCUMENT;
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONWriter}
+	 *
+	 * @param writer
+	 *            {@link Writer} สำหรับเขียนข้อมูล
+	 * @param props
+	 *            Properties ที่ใช้เขียน JSON String
+	 * @throws NullPointerException
+	 *             writer หรือ props เป็น null
+	 */
+	public JSONWriter(Writer writer, Props props)
+			throws NullPointerException {
+		this(writer, writer, props);
+		if (writer == null) throw new NullPointerException();
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONWriter}
+	 *
+	 * @param writer
+	 *            {@link Writer} สำหรับเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             writer เป็น null
+	 */
+	public JSONWriter(Writer writer) throws NullPointerException {
+		this(writer, new Props());
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONWriter} ที่เข้ารหัสแบบ UTF-8
+	 * ผ่าน buffer จาก pool ของ Thread ปัจจุบัน
+	 *
+	 * @param output
+	 *            {@link OutputStream} สำหรับเขียนข้อมูล
+	 * @param props
+	 *            Properties ที่ใช้เขียน JSON String
+	 * @throws NullPointerException
+	 *             output หรือ props เป็น null
+	 */
+	public JSONWriter(OutputStream output, Props props)
+			throws NullPointerException {
+		this(new Output(output), output, props);
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONWriter} ที่เข้ารหัสแบบ UTF-8
+	 * ผ่าน buffer จาก pool ของ Thread ปัจจุบัน
+	 *
+	 * @param output
+	 *            {@link OutputStream} สำหรับเขียนข้อมูล
+	 * @throws NullPointerException
+	 *             output เป็น null
+	 */
+	public JSONWriter(OutputStream output) throws NullPointerException {
+		this(output, new Props());
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link JSONWriter} ที่เข้ารหัสแบบ UTF-8
+	 * ผ่าน buffer จาก pool ของ Thread ปัจจุบัน
+	 *
+	 * @param channel
+	 *            {@link WritableByteChannel} (blocking) สำหรับเขียนข้อมูล
+	 * @param props
+	 *            Properties ที่ใช้เขียน JSON String
+	 * @throws NullPointerException
+	 *             channel หรือ props เป็น null
+	 */
+	public JSONWriter(WritableByteChannel channel, Props props)
+			throws NullPointerException {
+		this(new Output(channel), channel, props);
+	}
+
+	/**
+	 * เตรียมเขียน JSON Value ตามสถานะปัจจุบัน
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	private void before() throws IOException, IllegalStateException {
+		switch (stack[depth - 1]) {
+		case DOCUMENT:
+			stack[depth - 1] = DOCUMENT_END;
+			return;
+		case OBJECT_VALUE:
+			stack[depth - 1] = OBJECT_NAME;
+			return;
+		case ARRAY_FIRST:
+			stack[depth - 1] = ARRAY_VALUE;
+			return;
+		case ARRAY_VALUE:
+			out.append(',');
+			return;
+		case DOCUMENT_END:
+			throw new IllegalStateException("JSON already written");
+		default:
+			throw new IllegalStateException("Expected name");
+		}
+	}
+
+	/**
+	 * เพิ่มระดับของข้อมูล
+	 *
+	 * @param scope
+	 *            สถานะของระดับใหม่
+	 */
+	private void push(int scope) {
+		if (depth == stack.length) {
+			stack = Arrays.copyOf(stack, depth * 2);
+		}
+		stack[depth++] = scope;
+	}
+
+	/**
+	 * เขียนจุดเริ่มต้นของ JSON Object
+	 *
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter beginObject() throws IOException, IllegalStateException {
+		before();
+		out.append('{');
+		push(OBJECT_FIRST);
+		return this;
+	}
+
+	/**
+	 * เขียนจุดสิ้นสุดของ JSON Object
+	 *
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ระดับปัจจุบันไม่ใช่ JSON Object หรือกำลังรอ value
+	 */
+	public JSONWriter endObject() throws IOException, IllegalStateException {
+		int scope = stack[depth - 1];
+		if (scope != OBJECT_FIRST && scope != OBJECT_NAME)
+			throw new IllegalStateException("Not in object");
+		depth--;
+		out.append('}');
+		return this;
+	}
+
+	/**
+	 * เขียนจุดเริ่มต้นของ JSON Array
+	 *
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter beginArray() throws IOException, IllegalStateException {
+		before();
+		out.append('[');
+		push(ARRAY_FIRST);
+		return this;
+	}
+
+	/**
+	 * เขียนจุดสิ้นสุดของ JSON Array
+	 *
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ระดับปัจจุบันไม่ใช่ JSON Array
+	 */
+	public JSONWriter endArray() throws IOException, IllegalStateException {
+		int scope = stack[depth - 1];
+		if (scope != ARRAY_FIRST && scope != ARRAY_VALUE)
+			throw new IllegalStateException("Not in array");
+		depth--;
+		out.append(']');
+		return this;
+	}
+
+	/**
+	 * เขียน key ของ JSON Object
+	 *
+	 * @param name
+	 *            key ของ JSON Object
+	 * @return Object ตัวเอง
+	 * @throws NullPointerException
+	 *             name เป็น null
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ระดับปัจจุบันไม่ใช่ JSON Object หรือกำลังรอ value
+	 */
+	public JSONWriter name(String name)
+			throws NullPointerException, IOException, IllegalStateException {
+		if (name == null) throw new NullPointerException();
+		int scope = stack[depth - 1];
+		if (scope != OBJECT_FIRST && scope != OBJECT_NAME)
+			throw new IllegalStateException("Not expecting name");
+		else if (scope == OBJECT_NAME) out.append(',');
+		stack[depth - 1] = OBJECT_VALUE;
+		util.writeKey(out, name, props);
+		return this;
+	}
+
+	/**
+	 * เขียน JSON Value ที่เป็นข้อความ
+	 *
+	 * @param value
+	 *            ข้อความ หรือ null
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter value(CharSequence value)
+			throws IOException, IllegalStateException {
+		before();
+		if (value == null) {
+			out.append("null");
+		} else util.writeString(out, value, props);
+		return this;
+	}
+
+	/**
+	 * เขียน JSON Value ที่เป็นจำนวนเต็ม
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter value(long value)
+			throws IOException, IllegalStateException {
+		return literal(Long.toString(value));
+	}
+
+	/**
+	 * เขียน JSON Value ที่เป็นจำนวนทศนิยม
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             value เป็น NaN หรือ Infinity
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter value(double value) throws IOException,
+			IllegalArgumentException, IllegalStateException {
+		if (Double.isNaN(value) || Double.isInfinite(value))
+			throw new IllegalArgumentException("Not a JSON number: " + value);
+		return literal(Double.toString(value));
+	}
+
+	/**
+	 * เขียน JSON Value ที่เป็น boolean
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter value(boolean value)
+			throws IOException, IllegalStateException {
+		return literal(value ? "true" : "false");
+	}
+
+	/**
+	 * เขียน JSON Value ใดๆ ({@link JSON}, {@link Number},
+	 * {@link java.util.Date}, Map, Collection, Array หรือ Java Object)
+	 * ตามการแปลงของ {@link JSON#JSON(Object, Props)}
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value หรือ null
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่สามารถเก็บ value ในรูปแบบของ JSON ได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter value(Object value) throws IOException,
+			IllegalArgumentException, IllegalStateException {
+		if (value instanceof CharSequence) return value((CharSequence) value);
+		before();
+		util.writeObject(out, value, props);
+		return this;
+	}
+
+	/**
+	 * เขียน JSON Value ที่เป็น null
+	 *
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	public JSONWriter nullValue() throws IOException, IllegalStateException {
+		before();
+		out.append("null");
+		return this;
+	}
+
+	/**
+	 * เขียน JSON Value ที่ไม่ใช่ข้อความ (ครอบ quote หาก
+	 * {@link Props#quoteOnNonString})
+	 *
+	 * @param value
+	 *            ข้อความของ JSON Value
+	 * @return Object ตัวเอง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws IllegalStateException
+	 *             ไม่สามารถเขียน JSON Value ณ ตำแหน่งปัจจุบันได้
+	 */
+	private JSONWriter literal(String value)
+			throws IOException, IllegalStateException {
+		before();
+		if (props.quoteOnNonString) {
+			util.writeString(out, value, props);
+		} else out.append(value);
+		return this;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (out instanceof Flushable) ((Flushable) out).flush();
+	}
+
+	/**
+	 * เขียนข้อมูลที่เหลืออยู่ แล้วปิดปลายทาง
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (out instanceof Output) {
+				((Output) out).close();
+			} else flush();
+		} finally {
+			target.close();
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package org.dat.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Class KeyCache</h3>
+ * <p>
+ * Class KeyCache เป็น Class สำหรับเก็บ key ของ JSON Object ที่เข้ารหัสแล้ว
+ * (ครอบ quote และ escape ตาม {@link Props#quote} และ
+ * {@link Props#quoteOnKey} พร้อม <code>':'</code> ต่อท้าย) ทั้งในรูปของ
+ * String และ UTF-8 เพื่อให้การเขียน key ที่ซ้ำกันไม่ต้องตรวจสอบและ escape
+ * ใหม่ทุกครั้ง โดยจำกัดจำนวนและความยาวของ key ที่เก็บไว้
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+final class KeyCache {
+	/**
+	 * <h3>Class KeyCache.Key</h3>
+	 * <p>
+	 * Class KeyCache.Key เป็น Class สำหรับเก็บ key ที่เข้ารหัสแล้ว
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static final class Key {
+		/**
+		 * Attribute สำหรับเก็บ key ที่เข้ารหัสแล้วในรูปของ String
+		 */
+		final String text;
+		/**
+		 * Attribute สำหรับเก็บ key ที่เข้ารหัสแล้วในรูปของ UTF-8
+		 */
+		final byte[] bytes;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Key}
+		 *
+		 * @param text
+		 *            key ที่เข้ารหัสแล้ว
+		 */
+		Key(String text) {
+			this.text = text;
+			this.bytes = text.getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * จำนวน key สูงสุดที่เก็บไว้ต่อรูปแบบของ quote
+	 */
+	static final int MAX_SIZE = 4096;
+	/**
+	 * ความยาวสูงสุดของ key ที่เก็บไว้
+	 */
+	static final int MAX_LENGTH = 128;
+
+	/**
+	 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+	 * ที่ใช้เข้ารหัส key
+	 */
+	private final Util util;
+	/**
+	 * Attribute สำหรับเก็บ key ที่เข้ารหัสแล้ว แยกตามรูปแบบของ quote
+	 * (<code>quote &lt;&lt; 1 | quoteOnKey</code>)
+	 */
+	private final ConcurrentHashMap<Integer, ConcurrentHashMap<String, Key>> variants = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor สำหรับสร้าง {@link KeyCache}
+	 *
+	 * @param util
+	 *            ตัวช่วยในการทำงานของ {@link JSON} ที่ใช้เข้ารหัส key
+	 */
+	KeyCache(Util util) {
+		this.util = util;
+	}
+
+	/**
+	 * เรียก key ที่เข้ารหัสแล้ว โดยเข้ารหัสและเก็บไว้หากยังไม่มี
+	 * (key ที่เป็น null หรือยาวเกิน {@link #MAX_LENGTH}
+	 * จะถูกเข้ารหัสใหม่ทุกครั้งโดยไม่เก็บไว้)
+	 *
+	 * @param key
+	 *            key ของ JSON Object หรือ null
+	 * @param props
+	 *            Properties ของ {@link JSON} Object
+	 * @return key ที่เข้ารหัสแล้ว
+	 * @throws NullPointerException
+	 *             props เป็น null
+	 */
+	Key get(String key, Props props) throws NullPointerException {
+		if (key == null || key.length() > MAX_LENGTH)
+			return new Key(util.encodeKey(key, props));
+		Integer variant = props.quote << 1 | (props.quoteOnKey ? 1 : 0);
+		ConcurrentHashMap<String, Key> keys = variants.get(variant);
+		if (keys == null) {
+			keys = variants.computeIfAbsent(variant,
+					v -> new ConcurrentHashMap<>());
+		}
+		Key encoded = keys.get(key);
+		if (encoded == null) {
+			encoded = new Key(util.encodeKey(key, props));
+			if (keys.size() < MAX_SIZE) {
+				keys.putIfAbsent(key, encoded);
+			}
+		}
+		return encoded;
+	}
+}
@@ -0,0 +1,533 @@
+package org.dat.json;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.dat.json.JSON.Data;
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+
+/**
+ * <h3>Class Lazy</h3>
+ * <p>
+ * Class Lazy เป็น Class สำหรับเก็บ JSON Object และ JSON Array ที่ยังไม่ได้อ่าน
+ * ในรูปของช่วงของข้อมูลต้นฉบับ ({@link Props#lazyParsing}) โดยจะอ่านข้อมูล
+ * เมื่อมีการเรียกใช้ครั้งแรก และจนกว่าจะถูกเรียกใช้
+ * จะสามารถเรียกข้อความต้นฉบับได้โดยไม่ต้องอ่านข้อมูล
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+final class Lazy {
+	/**
+	 * <h3>Class Lazy.Range</h3>
+	 * <p>
+	 * Class Lazy.Range เป็น Class สำหรับจดจำช่วงของข้อมูลต้นฉบับที่ยังไม่ได้อ่าน
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Range {
+		/**
+		 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+		 */
+		final Util util;
+		/**
+		 * Attribute สำหรับจดจำ Properties ของ {@link JSON} Object
+		 */
+		final Props props;
+		/**
+		 * Attribute สำหรับจดจำแหล่งข้อมูล JSON String
+		 */
+		final Source source;
+		/**
+		 * Attribute สำหรับจดจำตำแหน่งเริ่มต้นของช่วง
+		 */
+		final long start;
+		/**
+		 * Attribute สำหรับจดจำตำแหน่งสิ้นสุดของช่วง (ไม่รวม)
+		 */
+		final long end;
+		/**
+		 * Attribute สำหรับจดจำผลการตรวจสอบ {@link #canonical()}
+		 * (0 ยังไม่ได้ตรวจสอบ, 1 ใช่, -1 ไม่ใช่)
+		 */
+		private int canonical;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Range}
+		 *
+		 * @param util
+		 *            ตัวช่วยในการทำงานของ {@link JSON}
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @param source
+		 *            แหล่งข้อมูล JSON String
+		 * @param start
+		 *            ตำแหน่งเริ่มต้นของช่วง
+		 * @param end
+		 *            ตำแหน่งสิ้นสุดของช่วง
+		 */
+		Range(Util util, Props props, Source source, long start, long end) {
+			this.util = util;
+			this.props = props;
+			this.source = source;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * อ่านข้อมูลในช่วง
+		 *
+		 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
+		 * @throws UncheckedIOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 * @throws IllegalArgumentException
+		 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+		 */
+		Data parse() throws UncheckedIOException, IllegalArgumentException {
+			try {
+				return new Parser(util, props, source.slice(start, end))
+						.value(true);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		/**
+		 * เรียกข้อความต้นฉบับของข้อมูลในช่วง
+		 *
+		 * @return ข้อความต้นฉบับ
+		 */
+		String text() {
+			return source.text(start, end);
+		}
+
+		/**
+		 * ตรวจสอบว่าข้อความต้นฉบับของช่วงตรงกับข้อความที่
+		 * {@link Util#write(Appendable, Data, Props)} เขียนจากข้อมูลที่อ่านได้
+		 * (ด้วย Quotation Mark <code>'"'</code> และครอบ key ทุกตัว)
+		 * ทุกตัวอักษรหรือไม่ (ผลการตรวจสอบจะถูกเก็บไว้)
+		 *
+		 * @return true หากสามารถเขียนข้อความต้นฉบับแทนได้
+		 */
+		boolean canonical() {
+			if (canonical == 0) {
+				Check check = new Check(text(), util, props);
+				canonical = check.value(false)
+						&& check.pos == check.text.length() ? 1 : -1;
+			}
+			return canonical > 0;
+		}
+	}
+
+	/**
+	 * <h3>Class Lazy.Check</h3>
+	 * <p>
+	 * Class Lazy.Check เป็น Class สำหรับตรวจสอบว่าข้อความ JSON
+	 * อยู่ในรูปแบบเดียวกับที่ {@link Util#write(Appendable, Data, Props)}
+	 * เขียนหรือไม่ (ไม่มี whitespace, ใช้ <code>'"'</code> ครอบ String และ
+	 * key, escape แบบเดียวกัน, ไม่มี key ซ้ำ, ไม่มี null ใน JSON Object
+	 * และ JSON Value ที่แปลงแล้วเขียนกลับได้ข้อความเดิม)
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Check {
+		/**
+		 * Attribute สำหรับจดจำข้อความที่ตรวจสอบ
+		 */
+		final String text;
+		/**
+		 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+		 */
+		final Util util;
+		/**
+		 * Attribute สำหรับจดจำ Properties ที่ใช้อ่านข้อมูล
+		 */
+		final Props props;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งปัจจุบันใน {@link #text}
+		 */
+		int pos;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Check}
+		 *
+		 * @param text
+		 *            ข้อความที่ตรวจสอบ
+		 * @param util
+		 *            ตัวช่วยในการทำงานของ {@link JSON}
+		 * @param props
+		 *            Properties ที่ใช้อ่านข้อมูล
+		 */
+		Check(String text, Util util, Props props) {
+			this.text = text;
+			this.util = util;
+			this.props = props;
+		}
+
+		/**
+		 * ตรวจสอบ JSON ถัดไป
+		 *
+		 * @param member
+		 *            true หากเป็นค่าของสมาชิกใน JSON Object
+		 * @return true หากอยู่ในรูปแบบเดียวกับที่เขียน
+		 */
+		boolean value(boolean member) {
+			if (pos >= text.length()) return false;
+			char c = text.charAt(pos);
+			if (c == '{') return object();
+			else if (c == '[') return array();
+			else if (c == '"') {
+				int start = pos + 1;
+				if (!string()) return false;
+				return !props.dateParsing || !util
+						.isDateFormat(text.substring(start, pos - 1));
+			}
+			int start = pos;
+			while (pos < text.length() && (c = text.charAt(pos)) != ','
+					&& c != ']' && c != '}') {
+				pos++;
+			}
+			String token = text.substring(start, pos);
+			if (token.equals("null")) return !member;
+			Object value = util.toValue(token, false, props);
+			return (value instanceof Number || value instanceof Boolean)
+					&& value.toString().equals(token);
+		}
+
+		/**
+		 * ตรวจสอบ JSON Object โดย {@link #pos} ต้องอยู่ที่ <code>'{'</code>
+		 *
+		 * @return true หากอยู่ในรูปแบบเดียวกับที่เขียน
+		 */
+		private boolean object() {
+			if (++pos < text.length() && text.charAt(pos) == '}') {
+				pos++;
+				return true;
+			}
+			Set<String> keys = new HashSet<>();
+			while (pos < text.length() && text.charAt(pos) == '"') {
+				int start = pos;
+				if (!string() || !keys.add(text.substring(start, pos))
+						|| pos >= text.length() || text.charAt(pos++) != ':'
+						|| !value(true) || pos >= text.length())
+					return false;
+				char c = text.charAt(pos++);
+				if (c == '}') return true;
+				else if (c != ',') return false;
+			}
+			return false;
+		}
+
+		/**
+		 * ตรวจสอบ JSON Array โดย {@link #pos} ต้องอยู่ที่ <code>'['</code>
+		 *
+		 * @return true หากอยู่ในรูปแบบเดียวกับที่เขียน
+		 */
+		private boolean array() {
+			if (++pos < text.length() && text.charAt(pos) == ']') {
+				pos++;
+				return true;
+			}
+			while (value(false) && pos < text.length()) {
+				char c = text.charAt(pos++);
+				if (c == ']') return true;
+				else if (c != ',') return false;
+			}
+			return false;
+		}
+
+		/**
+		 * ตรวจสอบ String โดย {@link #pos} ต้องอยู่ที่ <code>'"'</code>
+		 * (escape ต้องตรงกับที่ {@link Util#writeString(Appendable,
+		 * CharSequence, Props)} เขียน)
+		 *
+		 * @return true หากอยู่ในรูปแบบเดียวกับที่เขียน
+		 */
+		private boolean string() {
+			for (pos++; pos < text.length(); pos++) {
+				char c = text.charAt(pos);
+				if (c == '"') {
+					pos++;
+					return true;
+				} else if (c < ' ') return false;
+				else if (c != '\\') continue;
+				else if (++pos >= text.length()) return false;
+				switch (text.charAt(pos)) {
+				case '"':
+				case '\\':
+				case 'b':
+				case 'f':
+				case 'n':
+				case 'r':
+				case 't':
+					continue;
+				case 'u':
+					if (pos + 4 >= text.length()) return false;
+					int e = Source.hex(text.charAt(pos + 1),
+							text.charAt(pos + 2), text.charAt(pos + 3),
+							text.charAt(pos + 4));
+					if (e < 0 || e >= ' ' || "\b\f\n\r\t".indexOf(e) >= 0)
+						return false;
+					for (int end = pos + 4; pos < end;) {
+						c = text.charAt(++pos);
+						if (c >= 'A' && c <= 'F') return false;
+					}
+					continue;
+				default:
+					return false;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * <h3>Class Lazy.Members</h3>
+	 * <p>
+	 * Class Lazy.Members เป็นตัวเก็บข้อมูล JSON Object ที่จะอ่านข้อมูลจากช่วงของ
+	 * ข้อมูลต้นฉบับเมื่อมีการเรียกใช้ครั้งแรก
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static final class Members extends AbstractMap<String, Data>
+			implements Serializable {
+		/**
+		 * Field สำหรับ {@link Serializable}
+		 */
+		private static final long serialVersionUID = 1L;
+		/**
+		 * Attribute สำหรับจดจำช่วงของข้อมูลที่ยังไม่ได้อ่าน (null
+		 * หากอ่านแล้ว)
+		 */
+		private transient Range range;
+		/**
+		 * Attribute สำหรับเก็บข้อมูล JSON Object ที่อ่านแล้ว
+		 */
+		private transient Map<String, Data> object;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Members}
+		 *
+		 * @param util
+		 *            ตัวช่วยในการทำงานของ {@link JSON}
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @param source
+		 *            แหล่งข้อมูล JSON String
+		 * @param start
+		 *            ตำแหน่งของ <code>'{'</code>
+		 * @param end
+		 *            ตำแหน่งถัดจาก <code>'}'</code>
+		 */
+		Members(Util util, Props props, Source source, long start, long end) {
+			this.range = new Range(util, props, source, start, end);
+		}
+
+		/**
+		 * เรียกข้อมูล JSON Object โดยอ่านจากช่วงของข้อมูลหากยังไม่ได้อ่าน
+		 *
+		 * @return ข้อมูล JSON Object
+		 */
+		private Map<String, Data> object() {
+			if (range != null) {
+				object = range.parse().object;
+				range = null;
+			}
+			return object;
+		}
+
+		@Override
+		public Set<Map.Entry<String, Data>> entrySet() {
+			return object().entrySet();
+		}
+
+		@Override
+		public int size() {
+			return object().size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return object().containsKey(key);
+		}
+
+		@Override
+		public Data get(Object key) {
+			return object().get(key);
+		}
+
+		@Override
+		public Data put(String key, Data value) {
+			return object().put(key, value);
+		}
+
+		@Override
+		public Data remove(Object key) {
+			return object().remove(key);
+		}
+
+		@Override
+		public void clear() {
+			object().clear();
+		}
+
+		/**
+		 * แทนที่ตัวเองด้วยข้อมูล JSON Object ที่อ่านแล้วเมื่อทำ
+		 * Serialization
+		 *
+		 * @return ข้อมูล JSON Object
+		 */
+		private Object writeReplace() {
+			return object();
+		}
+	}
+
+	/**
+	 * <h3>Class Lazy.Elements</h3>
+	 * <p>
+	 * Class Lazy.Elements เป็นตัวเก็บข้อมูล JSON Array ที่จะอ่านข้อมูลจากช่วงของ
+	 * ข้อมูลต้นฉบับเมื่อมีการเรียกใช้ครั้งแรก
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static final class Elements extends AbstractList<Data>
+			implements RandomAccess, Serializable {
+		/**
+		 * Field สำหรับ {@link Serializable}
+		 */
+		private static final long serialVersionUID = 1L;
+		/**
+		 * Attribute สำหรับจดจำช่วงของข้อมูลที่ยังไม่ได้อ่าน (null
+		 * หากอ่านแล้ว)
+		 */
+		private transient Range range;
+		/**
+		 * Attribute สำหรับเก็บข้อมูล JSON Array ที่อ่านแล้ว
+		 */
+		private transient List<Data> array;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Elements}
+		 *
+		 * @param util
+		 *            ตัวช่วยในการทำงานของ {@link JSON}
+		 * @param props
+		 *            Properties ของ {@link JSON} Object
+		 * @param source
+		 *            แหล่งข้อมูล JSON String
+		 * @param start
+		 *            ตำแหน่งของ <code>'['</code>
+		 * @param end
+		 *            ตำแหน่งถัดจาก <code>']'</code>
+		 */
+		Elements(Util util, Props props, Source source, long start, long end) {
+			this.range = new Range(util, props, source, start, end);
+		}
+
+		/**
+		 * เรียกข้อมูล JSON Array โดยอ่านจากช่วงของข้อมูลหากยังไม่ได้อ่าน
+		 *
+		 * @return ข้อมูล JSON Array
+		 */
+		private List<Data> array() {
+			if (range != null) {
+				array = range.parse().array;
+				range = null;
+			}
+			return array;
+		}
+
+		@Override
+		public Data get(int index) {
+			return array().get(index);
+		}
+
+		@Override
+		public int size() {
+			return array().size();
+		}
+
+		@Override
+		public Data set(int index, Data element) {
+			return array().set(index, element);
+		}
+
+		@Override
+		public void add(int index, Data element) {
+			array().add(index, element);
+		}
+
+		@Override
+		public Data remove(int index) {
+			return array().remove(index);
+		}
+
+		@Override
+		public void clear() {
+			array().clear();
+		}
+
+		@Override
+		public Iterator<Data> iterator() {
+			return array().iterator();
+		}
+
+		@Override
+		public ListIterator<Data> listIterator(int index) {
+			return array().listIterator(index);
+		}
+
+		/**
+		 * แทนที่ตัวเองด้วยข้อมูล JSON Array ที่อ่านแล้วเมื่อทำ Serialization
+		 *
+		 * @return ข้อมูล JSON Array
+		 */
+		private Object writeReplace() {
+			return array();
+		}
+	}
+
+	/**
+	 * Constructor สำหรับป้องกันการสร้าง Instance
+	 */
+	private Lazy() {}
+
+	/**
+	 * เรียกข้อความต้นฉบับของ JSON Object หรือ JSON Array ที่ยังไม่ได้อ่าน
+	 * เพื่อเขียนแทนข้อมูลที่อ่านแล้ว เฉพาะเมื่อข้อความต้นฉบับตรงกับข้อความที่
+	 * {@link Util#write(Appendable, Data, Props)} จะเขียนตาม props
+	 *
+	 * @param data
+	 *            Object {@link JSON.Data} สำหรับเก็บข้อมูล JSON
+	 * @param props
+	 *            Properties ที่ใช้เขียนข้อมูล
+	 * @return ข้อความต้นฉบับ หรือ null หากข้อมูลไม่ได้เก็บไว้แบบ lazy
+	 *         ถูกอ่านแล้ว หรือต้องเขียนจากข้อมูลที่อ่านแล้ว
+	 */
+	static CharSequence raw(Data data, Props props) {
+		Range range = data.object instanceof Members
+				? ((Members) data.object).range
+				: data.array instanceof Elements ? ((Elements) data.array).range
+						: null;
+		return range == null || props.quote != '"' || !props.quoteOnKey
+				|| props.quoteOnNonString || !range.canonical() ? null
+						: range.text();
+	}
+}
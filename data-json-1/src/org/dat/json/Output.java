@@ -0,0 +1,346 @@
+package org.dat.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <h3>Class Output</h3>
+ * <p>
+ * Class Output เป็น {@link Appendable} สำหรับเขียน JSON String
+ * โดยเข้ารหัสแบบ UTF-8 ลงใน buffer โดยตรง แล้วส่งต่อไปยัง
+ * {@link OutputStream}, {@link WritableByteChannel} หรือ {@link ByteBuffer}
+ * เมื่อ buffer เต็ม (ไม่สร้าง String หรือ <code>byte[]</code>
+ * ของข้อมูลทั้งหมด) โดย buffer จะถูกยืมจาก pool ของแต่ละ Thread
+ * และคืนเมื่อเรียก {@link #close()}
+ * </p>
+ * <p>
+ * {@link #close()} จะเขียนข้อมูลที่เหลืออยู่ แต่ไม่ปิดปลายทาง
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+final class Output implements Appendable, Flushable, Closeable {
+	/**
+	 * จำนวน buffer สูงสุดที่เก็บไว้ใน pool ของแต่ละ Thread
+	 */
+	static final int POOL_SIZE = 4;
+	/**
+	 * pool ของ buffer ของแต่ละ Thread
+	 */
+	private static final ThreadLocal<ByteBuffer[]> POOL = ThreadLocal
+			.withInitial(() -> new ByteBuffer[POOL_SIZE]);
+
+	/**
+	 * Attribute สำหรับจดจำ {@link OutputStream} ปลายทาง (ถ้ามี)
+	 */
+	private final OutputStream stream;
+	/**
+	 * Attribute สำหรับจดจำ {@link WritableByteChannel} ปลายทาง (ถ้ามี)
+	 */
+	private final WritableByteChannel channel;
+	/**
+	 * Attribute สำหรับจดจำ {@link ByteBuffer} ปลายทาง (ถ้ามี)
+	 */
+	private final ByteBuffer target;
+	/**
+	 * Attribute สำหรับจดจำ buffer ที่ยืมจาก pool (null หากคืนแล้ว)
+	 */
+	private ByteBuffer buffer;
+	/**
+	 * Attribute สำหรับเก็บข้อมูลที่เข้ารหัสแล้ว (<code>array()</code> ของ
+	 * {@link #buffer})
+	 */
+	private byte[] buf;
+	/**
+	 * Attribute สำหรับเก็บจำนวน byte ที่อยู่ใน {@link #buf}
+	 */
+	private int pos;
+	/**
+	 * Attribute สำหรับเก็บ high surrogate ที่ยังรอ low surrogate
+	 * (0 หากไม่มี)
+	 */
+	private char high;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link Output}
+	 *
+	 * @param stream
+	 *            {@link OutputStream} ปลายทาง
+	 * @param channel
+	 *            {@link WritableByteChannel} ปลายทาง
+	 * @param target
+	 *            {@link ByteBuffer} ปลายทาง
+	 * @throws NullPointerException
+	 *             ไม่ได้ระบุปลายทาง
+	 */
+	private Output(OutputStream stream, WritableByteChannel channel,
+			ByteBuffer target) throws NullPointerException {
+		if (stream == null && channel == null && target == null)
+			throw new NullPointerException();
+		this.stream = stream;
+		this.channel = channel;
+		this.target = target;
+		this.buffer = acquire();
+		this.buf = buffer.array();
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link Output} ที่เขียนข้อมูลลงใน
+	 * {@link OutputStream}
+	 *
+	 * @param stream
+	 *            {@link OutputStream} ปลายทาง
+	 * @throws NullPointerException
+	 *             stream เป็น null
+	 */
+	Output(OutputStream stream) throws NullPointerException {
+		this(stream, null, null);
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link Output} ที่เขียนข้อมูลลงใน
+	 * {@link WritableByteChannel} (ต้องเป็น blocking channel)
+	 *
+	 * @param channel
+	 *            {@link WritableByteChannel} ปลายทาง
+	 * @throws NullPointerException
+	 *             channel เป็น null
+	 */
+	Output(WritableByteChannel channel) throws NullPointerException {
+		this(null, channel, null);
+	}
+
+	/**
+	 * Constructor สำหรับสร้าง {@link Output} ที่เขียนข้อมูลลงใน
+	 * {@link ByteBuffer} ตั้งแต่ position ปัจจุบัน
+	 *
+	 * @param target
+	 *            {@link ByteBuffer} ปลายทาง (heap หรือ direct)
+	 * @throws NullPointerException
+	 *             target เป็น null
+	 */
+	Output(ByteBuffer target) throws NullPointerException {
+		this(null, null, target);
+	}
+
+	/**
+	 * ยืม buffer จาก pool ของ Thread ปัจจุบัน หรือสร้างใหม่หาก pool ว่าง
+	 *
+	 * @return buffer ที่ยืม
+	 */
+	private static ByteBuffer acquire() {
+		ByteBuffer[] pool = POOL.get();
+		for (int i = 0; i < pool.length; i++) {
+			ByteBuffer buffer = pool[i];
+			if (buffer != null) {
+				pool[i] = null;
+				return buffer;
+			}
+		}
+		return ByteBuffer.allocate(JSONReader.BUFFER_SIZE);
+	}
+
+	/**
+	 * คืน buffer ให้กับ pool ของ Thread ปัจจุบัน (ทิ้งไปหาก pool เต็ม)
+	 *
+	 * @param buffer
+	 *            buffer ที่ต้องการคืน
+	 */
+	private static void release(ByteBuffer buffer) {
+		ByteBuffer[] pool = POOL.get();
+		for (int i = 0; i < pool.length; i++) {
+			if (pool[i] == null) {
+				pool[i] = buffer;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * ส่งข้อมูลใน {@link #buf} ไปยังปลายทาง
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 * @throws BufferOverflowException
+	 *             {@link ByteBuffer} ปลายทางมีที่ว่างไม่พอ
+	 */
+	private void drain() throws IOException, BufferOverflowException {
+		if (pos == 0) return;
+		else if (stream != null) {
+			stream.write(buf, 0, pos);
+		} else if (channel != null) {
+			buffer.clear().limit(pos);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} else {
+			target.put(buf, 0, pos);
+		}
+		pos = 0;
+	}
+
+	/**
+	 * เตรียมที่ว่างใน {@link #buf} ให้เพียงพอ
+	 *
+	 * @param size
+	 *            จำนวน byte ที่ต้องการ
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	private void ensure(int size) throws IOException {
+		if (pos + size > buf.length) drain();
+	}
+
+	/**
+	 * เข้ารหัส code point แบบ UTF-8 ลงใน {@link #buf}
+	 *
+	 * @param c
+	 *            code point ที่ไม่ใช่ ASCII
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	private void encode(int c) throws IOException {
+		ensure(4);
+		if (c < 0x800) {
+			buf[pos++] = (byte) (0xC0 | c >> 6);
+		} else {
+			if (c < 0x10000) {
+				buf[pos++] = (byte) (0xE0 | c >> 12);
+			} else {
+				buf[pos++] = (byte) (0xF0 | c >> 18);
+				buf[pos++] = (byte) (0x80 | c >> 12 & 0x3F);
+			}
+			buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+		}
+		buf[pos++] = (byte) (0x80 | c & 0x3F);
+	}
+
+	/**
+	 * เขียนข้อมูลที่เข้ารหัสแบบ UTF-8 แล้ว
+	 *
+	 * @param bytes
+	 *            ข้อมูลที่เข้ารหัสแล้ว
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	void write(byte[] bytes) throws IOException {
+		if (high != 0) {
+			high = 0;
+			append('?');
+		}
+		if (pos + bytes.length > buf.length) {
+			drain();
+			if (bytes.length > buf.length) {
+				for (int i = 0; i < bytes.length; i += buf.length) {
+					int length = Math.min(buf.length, bytes.length - i);
+					System.arraycopy(bytes, i, buf, 0, pos = length);
+					drain();
+				}
+				return;
+			}
+		}
+		System.arraycopy(bytes, 0, buf, pos, bytes.length);
+		pos += bytes.length;
+	}
+
+	/**
+	 * เขียนตัวเลขจำนวนเต็มเป็นตัวอักษร ASCII ลงใน {@link #buf} โดยตรง
+	 * (ไม่สร้าง String)
+	 *
+	 * @param value
+	 *            ตัวเลขที่ต้องการเขียน
+	 * @throws IOException
+	 *             ไม่สามารถเขียนข้อมูลได้
+	 */
+	void write(long value) throws IOException {
+		if (high != 0) {
+			high = 0;
+			append('?');
+		}
+		ensure(20);
+		if (value < 0) {
+			buf[pos++] = '-';
+		} else value = -value;
+		int start = pos;
+		do {
+			buf[pos++] = (byte) ('0' - value % 10);
+			value /= 10;
+		} while (value != 0);
+		for (int i = start, j = pos - 1; i < j; i++, j--) {
+			byte b = buf[i];
+			buf[i] = buf[j];
+			buf[j] = b;
+		}
+	}
+
+	@Override
+	public Output append(char c) throws IOException {
+		if (high != 0) {
+			char h = high;
+			high = 0;
+			if (Character.isLowSurrogate(c)) {
+				encode(Character.toCodePoint(h, c));
+				return this;
+			}
+			append('?');
+		}
+		if (c < 0x80) {
+			if (pos == buf.length) drain();
+			buf[pos++] = (byte) c;
+		} else if (Character.isHighSurrogate(c)) {
+			high = c;
+		} else if (Character.isLowSurrogate(c)) {
+			append('?');
+		} else encode(c);
+		return this;
+	}
+
+	@Override
+	public Output append(CharSequence csq, int start, int end)
+			throws IOException {
+		if (csq == null) return append("null", start, end);
+		for (int i = start; i < end; i++) {
+			char c = csq.charAt(i);
+			if (c < 0x80 && high == 0) {
+				if (pos == buf.length) drain();
+				buf[pos++] = (byte) c;
+			} else append(c);
+		}
+		return this;
+	}
+
+	@Override
+	public Output append(CharSequence csq) throws IOException {
+		if (csq == null) return append("null", 0, 4);
+		return append(csq, 0, csq.length());
+	}
+
+	@Override
+	public void flush() throws IOException {
+		drain();
+		if (stream != null) stream.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (buffer == null) return;
+		try {
+			if (high != 0) {
+				high = 0;
+				append('?');
+			}
+			flush();
+		} finally {
+			release(buffer);
+			buffer = null;
+			buf = null;
+		}
+	}
+}
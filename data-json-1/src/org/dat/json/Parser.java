@@ -0,0 +1,972 @@
+package org.dat.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.dat.json.JSON.Data;
+import org.dat.json.JSON.Props;
+import org.dat.json.JSON.Util;
+import org.reflect.invoke.util.Generic;
+
+/**
+ * <h3>Class Parser</h3>
+ * <p>
+ * Class Parser เป็น Class สำหรับอ่านค่าจาก JSON String แล้วสร้าง
+ * {@link JSON.Data} แบบ recursive descent โดยอ่านข้อมูลจาก {@link Source}
+ * ไปข้างหน้าเพียงรอบเดียว
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+class Parser {
+	/**
+	 * <h3>Class Parser.Segment</h3>
+	 * <p>
+	 * Class Parser.Segment เป็นงานสำหรับ {@link ForkJoinPool} ที่อ่าน element
+	 * ของ JSON Array ตามช่วงของ element ที่ระบุ
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private final class Segment extends RecursiveAction {
+		/**
+		 * Field สำหรับ {@link java.io.Serializable}
+		 */
+		private static final long serialVersionUID = 1L;
+		/**
+		 * Attribute สำหรับจดจำตำแหน่งเริ่มต้นและสิ้นสุดของแต่ละ element
+		 */
+		private final long[] bounds;
+		/**
+		 * Attribute สำหรับเก็บ element ที่อ่านได้
+		 */
+		private final Data[] elements;
+		/**
+		 * Attribute สำหรับจดจำลำดับของ element แรก
+		 */
+		private final int from;
+		/**
+		 * Attribute สำหรับจดจำลำดับของ element สุดท้าย (ไม่รวม)
+		 */
+		private final int to;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Segment}
+		 *
+		 * @param bounds
+		 *            ตำแหน่งเริ่มต้นและสิ้นสุดของแต่ละ element
+		 * @param elements
+		 *            ตัวเก็บ element ที่อ่านได้
+		 * @param from
+		 *            ลำดับของ element แรก
+		 * @param to
+		 *            ลำดับของ element สุดท้าย (ไม่รวม)
+		 */
+		Segment(long[] bounds, Data[] elements, int from, int to) {
+			this.bounds = bounds;
+			this.elements = elements;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				for (int i = from; i < to; i++) {
+					elements[i] = new Parser(util, props,
+							source.slice(bounds[i * 2], bounds[i * 2 + 1]))
+									.member();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Attribute สำหรับจดจำตัวช่วยในการทำงานของ {@link JSON}
+	 */
+	protected final Util util;
+	/**
+	 * Attribute สำหรับจดจำ Properties ของ {@link JSON} Object
+	 */
+	protected final Props props;
+	/**
+	 * Attribute สำหรับจดจำแหล่งข้อมูล JSON String
+	 */
+	protected final Source source;
+	/**
+	 * Attribute สำหรับจดจำว่าจะเก็บ JSON Object และ JSON Array ที่อยู่ภายใน
+	 * ไว้เป็นช่วงของข้อมูลที่ยังไม่ได้อ่านหรือไม่
+	 */
+	protected final boolean lazy;
+
+	/**
+	 * Constructor สำหรับสร้าง {@link Parser}
+	 *
+	 * @param util
+	 *            ตัวช่วยในการทำงานของ {@link JSON}
+	 * @param props
+	 *            Properties ของ {@link JSON} Object
+	 * @param source
+	 *            แหล่งข้อมูล JSON String
+	 * @throws NullPointerException
+	 *             util, props หรือ source เป็น null
+	 */
+	Parser(Util util, Props props, Source source) throws NullPointerException {
+		if ((this.util = util) == null
+				|| (this.props = props) == null
+				|| (this.source = source) == null)
+			throw new NullPointerException();
+		this.lazy = props.lazyParsing && source.buffered();
+	}
+
+	/**
+	 * อ่านข้อมูล JSON ทั้งหมดจาก {@link Source}
+	 *
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	Data parse() throws IOException, IllegalArgumentException {
+		Data data = props.projection != null
+				? projected(props.projection.root, false)
+				: props.parallelism > 1 && source.buffered()
+				&& source.peek() == '['
+				&& source.end() - source.position() >= props.parallelThreshold
+						? elements() : value(false);
+		if (source.peek() >= 0)
+			throw source.error("Unexpected character");
+		return data == null ? util.newData() : data;
+	}
+
+	/**
+	 * อ่านข้อมูล JSON ทั้งหมดจาก {@link Source} ในฐานะเอกสาร โดย JSON Value
+	 * ระดับบนสุดที่ไม่ได้ครอบด้วย Quotation Mark จะถูกแปลงจากข้อความต้นฉบับ
+	 * ทั้งหมด (ไม่ตัด whitespace) เช่นเดียวกับค่าที่กำหนดผ่าน
+	 * {@link Util#set(Data, Props, Object)}
+	 *
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 * @see #parse()
+	 */
+	Data document() throws IOException, IllegalArgumentException {
+		long start = source.position();
+		if (!bare(source.peek())) return parse();
+		Data data = util.newData();
+		data.value = util.toValue(scalar(start), false, props);
+		return data;
+	}
+
+	/**
+	 * ตรวจสอบว่าตัวอักษรเป็นตัวแรกของ JSON Value ที่ไม่ได้ครอบด้วย
+	 * Quotation Mark หรือไม่
+	 *
+	 * @param c
+	 *            ตัวอักษรที่ได้จาก {@link Source#peek()}
+	 * @return true หากเป็นตัวแรกของ JSON Value ที่ไม่ได้ครอบด้วย Quotation
+	 *         Mark
+	 */
+	private static boolean bare(int c) {
+		return c >= 0 && c != '{' && c != '[' && c != '}' && c != ']'
+				&& c != '"' && c != '\'';
+	}
+
+	/**
+	 * อ่านข้อความที่เหลือทั้งหมดของ JSON Value ระดับบนสุดที่ไม่ได้ครอบด้วย
+	 * Quotation Mark ตามต้นฉบับ โดย Quotation Mark ภายในข้อความต้องมีคู่ปิด
+	 *
+	 * @param start
+	 *            ตำแหน่งก่อน whitespace นำหน้า
+	 * @return ข้อความที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ Quotation Mark ปิดท้าย
+	 */
+	private String scalar(long start)
+			throws IOException, IllegalArgumentException {
+		String text = source.rest(start);
+		for (int i = 0, length = text.length(); i < length; i++) {
+			char quote = text.charAt(i);
+			if (quote != '"' && quote != '\'') continue;
+			int open = i;
+			while (++i < length && text.charAt(i) != quote) {
+				if (text.charAt(i) == '\\') i++;
+			}
+			if (i >= length)
+				throw source.error("Unterminated string", start + open);
+		}
+		return text;
+	}
+
+	/**
+	 * ตรวจสอบว่าข้อมูลทั้งหมดจาก {@link Source} เป็น JSON String
+	 * ที่ถูกต้องหรือไม่ โดยอ่านข้ามข้อมูลด้วย {@link #skip(boolean)}
+	 * และไม่สร้าง {@link JSON.Data} หรือ String ใดๆ
+	 *
+	 * @return -1 หากข้อมูลถูกต้อง หรือตำแหน่งที่พบข้อผิดพลาด
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	long validate() throws IOException {
+		try {
+			skip(false);
+			if (source.peek() >= 0)
+				throw source.error("Unexpected character");
+			return -1;
+		} catch (IllegalArgumentException e) {
+			return source.failure;
+		}
+	}
+
+	/**
+	 * อ่าน JSON ถัดไปจาก {@link Source}
+	 *
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	Data value(boolean nested) throws IOException, IllegalArgumentException {
+		int c = source.peek();
+		switch (c) {
+		case '{':
+			source.skip();
+			return object();
+		case '[':
+			source.skip();
+			return array();
+		case '}':
+		case ']':
+			throw source.error("Unexpected character");
+		case '"':
+		case '\'': {
+			source.skip();
+			Data data = util.newData();
+			data.value = util.toValue(source.string((char) c), true, props);
+			return data;
+		}
+		case -1:
+			if (nested) throw source.error("Unexpected end");
+			return util.newData();
+		default: {
+			Data data = util.newData();
+			data.value = util.toValue(source.bare(nested), false, props);
+			return data;
+		}
+		}
+	}
+
+	/**
+	 * อ่าน JSON Object โดย cursor ต้องอยู่ถัดจาก <code>'{'</code>
+	 *
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON Object
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON Object ที่ถูกต้อง
+	 */
+	protected Data object() throws IOException, IllegalArgumentException {
+		Data data = util.newData();
+		data.object = util.newObject();
+		for (int c; (c = source.member('}')) != '}';) {
+			String key = source.key(c);
+			data.object.put(key,
+					source.empty('}') ? util.newData() : member());
+			source.separator('}');
+		}
+		source.skip();
+		return data;
+	}
+
+	/**
+	 * อ่าน JSON Array โดย cursor ต้องอยู่ถัดจาก <code>'['</code>
+	 *
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON Array
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON Array ที่ถูกต้อง
+	 */
+	protected Data array() throws IOException, IllegalArgumentException {
+		Data data = util.newData();
+		data.array = util.newArray(-1);
+		while (source.member(']') != ']') {
+			data.array.add(member());
+			source.separator(']');
+		}
+		source.skip();
+		return data;
+	}
+
+	/**
+	 * อ่าน JSON ถัดไปจาก {@link Source} เฉพาะส่วนที่อยู่ใน path ของ
+	 * {@link JSONProjection} ส่วนที่เหลือจะถูกอ่านข้ามด้วย
+	 * {@link #skip(boolean)} โดย element ของ JSON Array ที่ไม่อยู่ใน path
+	 * จะถูกเก็บเป็น null เพื่อให้ index ไม่เปลี่ยนแปลง
+	 *
+	 * @param node
+	 *            ตำแหน่งปัจจุบันใน path
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON หรือ null
+	 *         หากข้อมูลไม่ตรงกับ path
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	protected Data projected(JSONProjection.Node node, boolean nested)
+			throws IOException, IllegalArgumentException {
+		if (node.leaf) return nested ? member() : value(false);
+		int c = source.peek();
+		if (c == '{') {
+			source.skip();
+			Data data = util.newData();
+			data.object = util.newObject();
+			while ((c = source.member('}')) != '}') {
+				String key = source.key(c);
+				JSONProjection.Node child = node.child(key);
+				if (!source.empty('}')) {
+					Data value;
+					if (child == null) {
+						skip(true);
+					} else if ((value = projected(child, true)) != null) {
+						data.object.put(key, value);
+					}
+				} else if (child != null && child.leaf) {
+					data.object.put(key, util.newData());
+				}
+				source.separator('}');
+			}
+			source.skip();
+			return data;
+		} else if (c == '[') {
+			source.skip();
+			Data data = util.newData();
+			data.array = util.newArray(-1);
+			for (int index = 0; source.member(']') != ']'; index++) {
+				JSONProjection.Node child = node.child(index);
+				Data value = null;
+				if (child == null) {
+					skip(true);
+					if (index < node.indexes.length) {
+						data.array.add(util.newData());
+					}
+				} else {
+					value = projected(child, true);
+					data.array.add(value == null ? util.newData() : value);
+				}
+				source.separator(']');
+			}
+			source.skip();
+			return data;
+		}
+		skip(nested);
+		return null;
+	}
+
+	/**
+	 * อ่าน JSON Array แบบขนาน โดยอ่านข้ามแต่ละ element เพื่อหาตำแหน่งของ
+	 * element ทั้งหมดก่อน แล้วจึงแบ่ง element เป็นช่วงที่มีขนาดของข้อมูลใกล้เคียงกัน
+	 * ไม่เกิน {@link Props#parallelism} ช่วง ให้
+	 * {@link ForkJoinPool#commonPool()} อ่าน (จึงใช้ Thread ไม่เกิน
+	 * {@link Props#parallelism}) ได้ผลลัพธ์เหมือนกับ {@link #array()}
+	 * โดย cursor ต้องอยู่ที่ <code>'['</code>
+	 *
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON Array
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON Array ที่ถูกต้อง
+	 */
+	protected Data elements() throws IOException, IllegalArgumentException {
+		source.skip();
+		long[] bounds = new long[64];
+		int count = 0;
+		while (source.member(']') != ']') {
+			if (count == bounds.length) {
+				bounds = Arrays.copyOf(bounds, count * 2);
+			}
+			bounds[count++] = source.position();
+			skip(true);
+			bounds[count++] = source.position();
+			source.separator(']');
+		}
+		source.skip();
+		Data[] elements = new Data[count / 2];
+		int parts = Math.min(props.parallelism, elements.length);
+		Segment[] segments = new Segment[parts];
+		long first = count > 0 ? bounds[0] : 0;
+		long size = count > 0 ? bounds[count - 1] - first : 0;
+		for (int part = 0, from = 0; part < parts; part++) {
+			long end = first + size * (part + 1) / parts;
+			int to = from;
+			while (to < elements.length
+					&& (part == parts - 1 || bounds[to * 2 + 1] <= end)) {
+				to++;
+			}
+			segments[part] = new Segment(bounds, elements, from, to);
+			from = to;
+		}
+		ForkJoinTask.invokeAll(segments);
+		Data data = util.newData();
+		data.array = util.newArray(elements.length);
+		data.array.addAll(Arrays.asList(elements));
+		return data;
+	}
+
+	/**
+	 * อ่าน JSON ถัดไปภายใน JSON Object หรือ JSON Array โดยหากเป็นการอ่านแบบ
+	 * lazy ({@link Props#lazyParsing}) JSON Object และ JSON Array
+	 * จะถูกอ่านข้ามและเก็บไว้เป็นช่วงของข้อมูลที่ยังไม่ได้อ่าน
+	 *
+	 * @return Object {@link JSON.Data} ที่เก็บข้อมูล JSON
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 * @see Lazy
+	 */
+	protected Data member() throws IOException, IllegalArgumentException {
+		int c;
+		if (!lazy || (c = source.peek()) != '{' && c != '[') return value(true);
+		long start = source.position();
+		skip(true);
+		Data data = util.newData();
+		if (c == '{') {
+			data.object = new Lazy.Members(util, props, source, start,
+					source.position());
+		} else {
+			data.array = new Lazy.Elements(util, props, source, start,
+					source.position());
+		}
+		return data;
+	}
+
+	/**
+	 * อ่านข้าม JSON ถัดไปจาก {@link Source} โดยไม่สร้าง {@link JSON.Data}
+	 *
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 * @see #value(boolean)
+	 */
+	void skip(boolean nested) throws IOException, IllegalArgumentException {
+		int c = source.peek();
+		switch (c) {
+		case '{':
+			source.skip();
+			while ((c = source.member('}')) != '}') {
+				source.skipKey(c);
+				if (!source.empty('}')) {
+					skip(true);
+				}
+				source.separator('}');
+			}
+			source.skip();
+			return;
+		case '[':
+			source.skip();
+			while (source.member(']') != ']') {
+				skip(true);
+				source.separator(']');
+			}
+			source.skip();
+			return;
+		case '}':
+		case ']':
+			throw source.error("Unexpected character");
+		case '"':
+		case '\'':
+			source.skip();
+			source.skipString((char) c);
+			return;
+		case -1:
+			if (nested) throw source.error("Unexpected end");
+			return;
+		default:
+			source.skipBare(nested);
+		}
+	}
+
+	/**
+	 * อ่านข้อมูล JSON ทั้งหมดจาก {@link Source} แล้วส่ง Event ให้กับ
+	 * {@link JSONHandler} โดย JSON Value ระดับบนสุดที่ไม่ได้ครอบด้วย
+	 * Quotation Mark จะถูกอ่านตามต้นฉบับเช่นเดียวกับ {@link #document()}
+	 *
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 */
+	void parse(JSONHandler handler)
+			throws IOException, IllegalArgumentException {
+		long start = source.position();
+		int c = source.peek();
+		if (bare(c)) {
+			scalar(handler, scalar(start));
+		} else if (c >= 0) {
+			value(handler, false);
+			if (source.peek() >= 0)
+				throw source.error("Unexpected character");
+		}
+	}
+
+	/**
+	 * อ่าน JSON ถัดไปจาก {@link Source} แล้วส่ง Event ให้กับ
+	 * {@link JSONHandler}
+	 *
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 * @see #value(boolean)
+	 */
+	void value(JSONHandler handler, boolean nested)
+			throws IOException, IllegalArgumentException {
+		int c = source.peek();
+		switch (c) {
+		case '{':
+			source.skip();
+			handler.startObject();
+			while ((c = source.member('}')) != '}') {
+				handler.key(source.key(c));
+				if (source.empty('}')) {
+					handler.nullValue();
+				} else {
+					value(handler, true);
+				}
+				source.separator('}');
+			}
+			source.skip();
+			handler.endObject();
+			return;
+		case '[':
+			source.skip();
+			handler.startArray();
+			while (source.member(']') != ']') {
+				value(handler, true);
+				source.separator(']');
+			}
+			source.skip();
+			handler.endArray();
+			return;
+		case '}':
+		case ']':
+			throw source.error("Unexpected character");
+		case '"':
+		case '\'':
+			source.skip();
+			handler.value(source.string((char) c));
+			return;
+		case -1:
+			throw source.error("Unexpected end");
+		default:
+			scalar(handler, source.bare(nested));
+		}
+	}
+
+	/**
+	 * ส่ง Event ของ JSON Value ที่ไม่ได้ครอบด้วย Quotation Mark ให้กับ
+	 * {@link JSONHandler} ตามชนิดของค่า
+	 *
+	 * @param handler
+	 *            ตัวรับ Event
+	 * @param value
+	 *            ข้อความของ JSON Value
+	 */
+	private void scalar(JSONHandler handler, CharSequence value) {
+		switch (Scalar.kind(value)) {
+		case Scalar.NULL:
+			handler.nullValue();
+			return;
+		case Scalar.TRUE:
+			handler.value(true);
+			return;
+		case Scalar.FALSE:
+			handler.value(false);
+			return;
+		case Scalar.INTEGER:
+			if (props.numberParsing) {
+				handler.value(Scalar.toLong(value));
+			} else handler.number(value);
+			return;
+		case Scalar.DECIMAL:
+			if (props.numberParsing && Scalar.exact(value)) {
+				handler.value(Scalar.toDouble(value));
+			} else handler.number(value);
+			return;
+		default:
+			handler.value(value);
+		}
+	}
+
+	/**
+	 * อ่านข้อมูล JSON ทั้งหมดจาก {@link Source} แล้วแปลงเป็น Java Object
+	 * ตาม DataType ที่ต้องการโดยตรง โดยไม่สร้าง {@link JSON.Data}
+	 * ได้ผลลัพธ์เหมือนกับ {@link Util#get(Data, Props, Type)}
+	 * ของข้อมูลที่อ่านได้ ทั้งนี้ key ที่ไม่ตรงกับ Field ใดๆ ของ Java Object
+	 * จะถูกอ่านข้ามด้วย {@link #skip(boolean)} ({@link Props#lazyParsing},
+	 * {@link Props#parallelism} และ {@link Props#projection} ไม่มีผล)
+	 *
+	 * @param type
+	 *            Type ของ DataType ที่ต้องการ
+	 * @return ข้อมูล JSON ในรูปแบบของ Java Object ตาม DataType ที่ต้องการ
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType ที่ต้องการได้
+	 */
+	Object bind(Type type) throws IOException, IllegalArgumentException,
+			ClassCastException {
+		Object value;
+		ClassCastException failure = null;
+		long start = source.position();
+		try {
+			value = bare(source.peek())
+					? convert(util.toValue(scalar(start), false, props),
+							Generic.raw(type))
+					: bind(type, false);
+		} catch (ClassCastException e) {
+			value = null;
+			failure = e;
+		}
+		if (source.peek() >= 0) throw source.error("Unexpected character");
+		if (failure != null) throw failure;
+		return value;
+	}
+
+	/**
+	 * อ่าน JSON ถัดไปจาก {@link Source} แล้วแปลงเป็น Java Object ตาม
+	 * DataType ที่ต้องการโดยตรง หากไม่สามารถแปลงได้ JSON
+	 * นั้นจะถูกอ่านจนจบก่อนแจ้ง {@link ClassCastException}
+	 *
+	 * @param type
+	 *            Type ของ DataType ที่ต้องการ
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @return ข้อมูล JSON ในรูปแบบของ Java Object ตาม DataType ที่ต้องการ
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON String ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType ที่ต้องการได้
+	 * @see #value(boolean)
+	 */
+	protected Object bind(Type type, boolean nested) throws IOException,
+			IllegalArgumentException, ClassCastException {
+		Class<?> raw = Generic.raw(type);
+		int c = source.peek();
+		switch (c) {
+		case '{':
+			if (raw == null || Map.class.isAssignableFrom(raw)) {
+				return map(type, raw);
+			} else if (util.isJsonValueType(raw)) {
+				skip(nested);
+				throw new ClassCastException("Is JSON Object.");
+			}
+			return object(util.binding(raw, props), raw, nested);
+		case '[':
+			if (raw == null || Iterable.class.isAssignableFrom(raw)) {
+				return array(new Generic(type).actual(Iterable.class, "T"),
+						raw, false);
+			} else if (raw.isArray()) {
+				return array(raw.getComponentType(), raw, true);
+			}
+			skip(nested);
+			throw new ClassCastException("Is JSON Array.");
+		case '}':
+		case ']':
+			throw source.error("Unexpected character");
+		case '"':
+		case '\'':
+			source.skip();
+			return convert(util.toValue(source.string((char) c), true, props),
+					raw);
+		case -1:
+			if (nested) throw source.error("Unexpected end");
+			return convert(null, raw);
+		default:
+			return convert(util.toValue(source.bare(nested), false, props),
+					raw);
+		}
+	}
+
+	/**
+	 * แปลงค่าของ JSON Value ด้วย {@link Util#convert(Object, Class)}
+	 * โดยแจ้งทุกข้อผิดพลาดเป็น {@link ClassCastException}
+	 * (เพื่อแยกจากข้อผิดพลาดของ JSON String)
+	 *
+	 * @param value
+	 *            ค่าของ JSON Value
+	 * @param raw
+	 *            Class ของ DataType ที่ต้องการ หรือ null
+	 * @return value ในรูปแบบของ DataType ที่ต้องการ
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงค่า value ได้
+	 */
+	private Object convert(Object value, Class<?> raw)
+			throws ClassCastException {
+		try {
+			return util.convert(value, raw);
+		} catch (ClassCastException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new ClassCastException(e.getMessage());
+		}
+	}
+
+	/**
+	 * แปลงค่าด้วย {@link Util#cast(Class, Object)}
+	 * โดยแจ้งทุกข้อผิดพลาดเป็น {@link ClassCastException}
+	 *
+	 * @param <T>
+	 *            DataType ที่ต้องการ
+	 * @param type
+	 *            DataType ที่ต้องการ
+	 * @param value
+	 *            ค่าที่ต้องการแปลง
+	 * @return value ในรูปแบบของ DataType ที่ต้องการ
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงค่า value ได้
+	 */
+	private <T> T cast(Class<T> type, Object value)
+			throws ClassCastException {
+		try {
+			return util.cast(type, value);
+		} catch (ClassCastException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new ClassCastException(e.getMessage());
+		}
+	}
+
+	/**
+	 * อ่าน JSON Object แล้วแปลงเป็น {@link Map} โดย cursor ต้องอยู่ที่
+	 * <code>'{'</code>
+	 *
+	 * @param type
+	 *            Type ของ {@link Map} ที่ต้องการ
+	 * @param raw
+	 *            Class ของ {@link Map} ที่ต้องการ หรือ null
+	 * @return {@link Map} ที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON Object ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType ที่ต้องการได้
+	 */
+	private Object map(Type type, Class<?> raw) throws IOException,
+			IllegalArgumentException, ClassCastException {
+		Type[] act = new Generic(type).actual(Map.class);
+		Class<?> key = Generic.raw(act[0]);
+		Map<Object, Object> map = new LinkedHashMap<>();
+		ClassCastException failure = null;
+		source.skip();
+		for (int c; (c = source.member('}')) != '}';) {
+			String name = source.key(c);
+			boolean empty = source.empty('}');
+			if (failure != null) {
+				if (!empty) skip(true);
+			} else {
+				try {
+					Object value = empty ? convert(null, Generic.raw(act[1]))
+							: bind(act[1], true);
+					map.put(cast(key, name), value);
+				} catch (ClassCastException e) {
+					failure = e;
+				}
+			}
+			source.separator('}');
+		}
+		source.skip();
+		if (failure != null) throw failure;
+		return cast(raw, map);
+	}
+
+	/**
+	 * อ่าน JSON Object แล้วกำหนดค่าให้กับ Field ของ Java Object ตาม
+	 * {@link Binding} โดย cursor ต้องอยู่ที่ <code>'{'</code> ทั้งนี้ Field
+	 * ที่แปลงค่าไม่ได้ หรือไม่มีใน JSON Object จะถูกกำหนดเป็น null
+	 *
+	 * @param binding
+	 *            แผนการแปลงของ Class ที่ต้องการ
+	 * @param raw
+	 *            Class ที่ต้องการ
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @return Java Object ที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON Object ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถสร้าง Java Object ได้
+	 */
+	private Object object(Binding binding, Class<?> raw, boolean nested)
+			throws IOException, IllegalArgumentException, ClassCastException {
+		Object object;
+		try {
+			object = binding.newInstance(raw);
+		} catch (Throwable e) {
+			skip(nested);
+			throw new ClassCastException(e.getMessage());
+		}
+		Binding.Property[] properties = binding.properties;
+		boolean handles = props.objectParsingHandles;
+		boolean[] assigned = new boolean[properties.length];
+		source.skip();
+		for (int c; (c = source.member('}')) != '}';) {
+			int[] index = binding.lookup(source.key(c));
+			boolean empty = source.empty('}');
+			if (index == null) {
+				if (!empty) skip(true);
+			} else if (index.length == 1) {
+				Binding.Property property = properties[index[0]];
+				Object value;
+				boolean failed = false;
+				try {
+					value = empty ? convert(null, Generic.raw(property.type))
+							: bind(property.type, true);
+				} catch (ClassCastException e) {
+					value = null;
+					failed = true;
+				}
+				assign(property, object, value, failed, handles);
+				assigned[index[0]] = true;
+			} else {
+				Data data = empty ? util.newData() : value(true);
+				for (int i : index) {
+					Object value;
+					boolean failed = false;
+					try {
+						value = util.get(data, props, properties[i].type);
+					} catch (Throwable e) {
+						value = null;
+						failed = true;
+					}
+					assign(properties[i], object, value, failed, handles);
+					assigned[i] = true;
+				}
+			}
+			source.separator('}');
+		}
+		source.skip();
+		for (int i = 0; i < properties.length; i++) {
+			if (!assigned[i]) {
+				assign(properties[i], object, null, true, handles);
+			}
+		}
+		return object;
+	}
+
+	/**
+	 * กำหนดค่าให้กับ Field โดยกำหนดเป็น null หากแปลงค่าไม่ได้
+	 * หรือกำหนดค่าไม่ได้ (และข้ามไปหากกำหนด null ไม่ได้)
+	 *
+	 * @param property
+	 *            Field ที่ต้องการกำหนดค่า
+	 * @param object
+	 *            Java Object ที่ต้องการกำหนดค่า
+	 * @param value
+	 *            ค่าที่แปลงแล้ว
+	 * @param failed
+	 *            true หากแปลงค่าไม่ได้
+	 * @param handles
+	 *            ใช้ {@link java.lang.invoke.MethodHandle} หรือไม่
+	 */
+	private static void assign(Binding.Property property, Object object,
+			Object value, boolean failed, boolean handles) {
+		try {
+			try {
+				if (failed) throw new ClassCastException();
+				property.set(object, value, handles);
+			} catch (Throwable e) {
+				property.set(object, null, handles);
+			}
+		} catch (Throwable e) {}
+	}
+
+	/**
+	 * อ่าน JSON Array แล้วแปลงเป็น {@link Iterable} หรือ Array โดย cursor
+	 * ต้องอยู่ที่ <code>'['</code>
+	 *
+	 * @param element
+	 *            Type ของ element
+	 * @param raw
+	 *            Class ของ DataType ที่ต้องการ หรือ null
+	 * @param array
+	 *            true หากต้องการ Array
+	 * @return {@link Iterable} หรือ Array ที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลไม่ใช่ JSON Array ที่ถูกต้อง
+	 * @throws ClassCastException
+	 *             ไม่สามารถแปลงข้อมูลเป็น DataType ที่ต้องการได้
+	 */
+	private Object array(Type element, Class<?> raw, boolean array)
+			throws IOException, IllegalArgumentException, ClassCastException {
+		ArrayList<Object> list = new ArrayList<>();
+		ClassCastException failure = null;
+		source.skip();
+		while (source.member(']') != ']') {
+			if (failure != null) {
+				skip(true);
+			} else {
+				try {
+					list.add(bind(element, true));
+				} catch (ClassCastException e) {
+					failure = e;
+				}
+			}
+			source.separator(']');
+		}
+		source.skip();
+		if (failure != null) throw failure;
+		if (!array) return cast(raw, list);
+		Object values = Array.newInstance((Class<?>) element, list.size());
+		try {
+			for (int i = 0; i < list.size(); i++) {
+				Array.set(values, i, list.get(i));
+			}
+		} catch (IllegalArgumentException e) {
+			throw new ClassCastException(e.getMessage());
+		}
+		return values;
+	}
+}
@@ -0,0 +1,480 @@
+package org.dat.json;
+
+import java.math.BigDecimal;
+
+/**
+ * <h3>Class Scalar</h3>
+ * <p>
+ * Class Scalar เป็น Class สำหรับตรวจสอบและแปลงค่า JSON Value
+ * ที่ไม่ได้ครอบด้วย Quotation Mark โดยไม่ใช้ Regular Expression
+ * และไม่สร้าง Object ใดๆ (ยกเว้นการตรวจสอบตัวเลขที่มีเลขนัยสำคัญเกิน 15 หลัก
+ * ด้วย {@link #exact(CharSequence)})
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+final class Scalar {
+	/**
+	 * ชนิดของ JSON Value: ข้อความ
+	 */
+	static final int TEXT = 0;
+	/**
+	 * ชนิดของ JSON Value: <code>null</code> หรือ <code>undefined</code>
+	 */
+	static final int NULL = 1;
+	/**
+	 * ชนิดของ JSON Value: <code>true</code>
+	 */
+	static final int TRUE = 2;
+	/**
+	 * ชนิดของ JSON Value: <code>false</code>
+	 */
+	static final int FALSE = 3;
+	/**
+	 * ชนิดของ JSON Value: จำนวนเต็มที่เก็บใน <code>long</code> ได้
+	 */
+	static final int INTEGER = 4;
+	/**
+	 * ชนิดของ JSON Value: จำนวนทศนิยม (หรือจำนวนเต็มที่เกิน
+	 * <code>long</code>)
+	 */
+	static final int DECIMAL = 5;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * ปี
+	 */
+	static final int YEAR = 0;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * เดือน (1-12)
+	 */
+	static final int MONTH = 1;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * วันที่
+	 */
+	static final int DAY = 2;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * ชั่วโมง
+	 */
+	static final int HOUR = 3;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * นาที
+	 */
+	static final int MINUTE = 4;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * วินาที
+	 */
+	static final int SECOND = 5;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * มิลลิวินาที
+	 */
+	static final int MILLI = 6;
+	/**
+	 * ตำแหน่งใน <code>int[]</code> ของ {@link #date(CharSequence, int[])}:
+	 * ตำแหน่งเริ่มต้นของ Time Zone (<code>'Z'</code> หรือ
+	 * <code>'+'</code>/<code>'-'</code>) ในข้อความ
+	 */
+	static final int ZONE = 7;
+	/**
+	 * ค่าของ 10 ยกกำลัง 0 ถึง 22 ที่เก็บใน <code>double</code>
+	 * ได้อย่างถูกต้อง
+	 */
+	private static final double[] POW10 = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+	/**
+	 * Constructor สำหรับป้องกันการสร้าง Instance
+	 */
+	private Scalar() {}
+
+	/**
+	 * ตรวจสอบชนิดของ JSON Value
+	 *
+	 * @param value
+	 *            ข้อความของ JSON Value
+	 * @return ชนิดของ JSON Value
+	 * @throws NullPointerException
+	 *             value เป็น null
+	 */
+	static int kind(CharSequence value) throws NullPointerException {
+		int length = value.length();
+		if (length == 0) return TEXT;
+		switch (value.charAt(0)) {
+		case 't':
+		case 'T':
+			return matches(value, "true") ? TRUE : TEXT;
+		case 'f':
+		case 'F':
+			return matches(value, "false") ? FALSE : TEXT;
+		case 'n':
+			return matches(value, "null") ? NULL : TEXT;
+		case 'u':
+			return matches(value, "undefined") ? NULL : TEXT;
+		}
+		boolean negative = value.charAt(0) == '-';
+		int i = negative ? 1 : 0;
+		if (i == length) return TEXT;
+		char c = value.charAt(i);
+		if (c == '0') {
+			i++;
+		} else if (c >= '1' && c <= '9') {
+			while (++i < length && (c = value.charAt(i)) >= '0' && c <= '9');
+		} else return TEXT;
+		int digits = negative ? i - 1 : i;
+		boolean integer = true;
+		if (i < length && value.charAt(i) == '.') {
+			if (!digit(value, ++i)) return TEXT;
+			while (digit(value, ++i));
+			integer = false;
+		}
+		if (i < length && ((c = value.charAt(i)) == 'e' || c == 'E')) {
+			if (++i < length && ((c = value.charAt(i)) == '+' || c == '-')) {
+				i++;
+			}
+			if (!digit(value, i)) return TEXT;
+			while (digit(value, ++i));
+			integer = false;
+		}
+		if (i != length) return TEXT;
+		else if (!integer) return DECIMAL;
+		else if (digits < 19) return INTEGER;
+		else if (digits > 19) return DECIMAL;
+		String max = negative ? "9223372036854775808" : "9223372036854775807";
+		for (int j = 0, k = length - 19; j < 19; j++, k++) {
+			if (value.charAt(k) != max.charAt(j))
+				return value.charAt(k) < max.charAt(j) ? INTEGER : DECIMAL;
+		}
+		return INTEGER;
+	}
+
+	/**
+	 * ตรวจสอบว่าตัวอักษร ณ ตำแหน่งที่ระบุเป็นตัวเลขหรือไม่
+	 *
+	 * @param value
+	 *            ข้อความที่ต้องการตรวจสอบ
+	 * @param index
+	 *            ตำแหน่งของตัวอักษร
+	 * @return true หากตัวอักษร ณ index เป็น <code>'0'</code> ถึง
+	 *         <code>'9'</code>
+	 */
+	private static boolean digit(CharSequence value, int index) {
+		if (index >= value.length()) return false;
+		char c = value.charAt(index);
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * ตรวจสอบว่าข้อความตรงกับคำที่ระบุหรือไม่ (ไม่สนใจตัวพิมพ์เล็กใหญ่
+	 * สำหรับ <code>true</code> และ <code>false</code>)
+	 *
+	 * @param value
+	 *            ข้อความที่ต้องการตรวจสอบ
+	 * @param word
+	 *            คำที่ต้องการ (ตัวพิมพ์เล็ก)
+	 * @return true หาก value ตรงกับ word
+	 */
+	private static boolean matches(CharSequence value, String word) {
+		int length = word.length();
+		if (value.length() != length) return false;
+		boolean ignoreCase = word.charAt(0) == 't' || word.charAt(0) == 'f';
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (ignoreCase && c >= 'A' && c <= 'Z') {
+				c += 'a' - 'A';
+			}
+			if (c != word.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * แปลงข้อความของ JSON Value ชนิด {@link #INTEGER} เป็น
+	 * <code>long</code>
+	 *
+	 * @param value
+	 *            ข้อความของ JSON Value
+	 * @return ค่าของ value
+	 */
+	static long toLong(CharSequence value) {
+		int length = value.length();
+		boolean negative = value.charAt(0) == '-';
+		long result = 0;
+		for (int i = negative ? 1 : 0; i < length; i++) {
+			result = result * 10 - (value.charAt(i) - '0');
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * แปลงข้อความของ JSON Value ชนิด {@link #INTEGER} หรือ
+	 * {@link #DECIMAL} เป็น <code>double</code> โดยคำนวณโดยตรงเมื่อ
+	 * mantissa และเลขยกกำลังอยู่ในช่วงที่ให้ผลลัพธ์ถูกต้องแน่นอน
+	 * (ไม่เกิน 2<sup>53</sup> และ 10<sup>&plusmn;22</sup>) นอกนั้นใช้
+	 * {@link Double#parseDouble(String)}
+	 *
+	 * @param value
+	 *            ข้อความของ JSON Value
+	 * @return ค่าของ value
+	 */
+	static double toDouble(CharSequence value) {
+		int length = value.length();
+		boolean negative = value.charAt(0) == '-';
+		long mantissa = 0;
+		int digits = 0;
+		int scale = 0;
+		int i = negative ? 1 : 0;
+		for (boolean fraction = false; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '.') {
+				fraction = true;
+				continue;
+			} else if (c < '0' || c > '9') break;
+			if (mantissa > 0 || c > '0') {
+				if (++digits > 18) return Double.parseDouble(value.toString());
+				mantissa = mantissa * 10 + (c - '0');
+			}
+			if (fraction) scale--;
+		}
+		if (i < length) {
+			boolean minus = value.charAt(++i) == '-';
+			if (value.charAt(i) == '-' || value.charAt(i) == '+') i++;
+			int exponent = 0;
+			for (; i < length; i++) {
+				if ((exponent = exponent * 10 + value.charAt(i) - '0') > 999)
+					return Double.parseDouble(value.toString());
+			}
+			scale += minus ? -exponent : exponent;
+		}
+		double result;
+		if (mantissa == 0) {
+			result = 0;
+		} else if (mantissa > 1L << 53 || scale < -22 || scale > 22) {
+			return Double.parseDouble(value.toString());
+		} else if (scale < 0) {
+			result = mantissa / POW10[-scale];
+		} else result = mantissa * POW10[scale];
+		return negative ? -result : result;
+	}
+
+	/**
+	 * ตรวจสอบว่าข้อความของ JSON Value ชนิด {@link #INTEGER} หรือ
+	 * {@link #DECIMAL} สามารถแปลงเป็น <code>double</code>
+	 * และเขียนกลับได้โดยไม่สูญเสียค่าหรือไม่ โดยข้อความที่มีเลขนัยสำคัญไม่เกิน
+	 * 15 หลักและอยู่ห่างจากขอบเขตของ <code>double</code> ถือว่าแปลงได้เสมอ
+	 * ส่วนข้อความอื่นต้องมีค่าเท่ากับผลของ {@link Double#toString(double)}
+	 * ของ <code>double</code> ที่แปลงได้
+	 *
+	 * @param value
+	 *            ข้อความของ JSON Value
+	 * @return true หากแปลงเป็น <code>double</code> ได้โดยไม่สูญเสียค่า
+	 */
+	static boolean exact(CharSequence value) {
+		int length = value.length();
+		int digits = 0;
+		int magnitude = 0;
+		int i = value.charAt(0) == '-' ? 1 : 0;
+		for (boolean fraction = false; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '.') {
+				fraction = true;
+				continue;
+			} else if (c < '0' || c > '9') break;
+			if (digits > 0 || c > '0') {
+				if (++digits > 15) return roundTrip(value);
+				if (!fraction) magnitude++;
+			} else if (fraction) magnitude--;
+		}
+		if (i < length) {
+			boolean minus = value.charAt(++i) == '-';
+			if (value.charAt(i) == '-' || value.charAt(i) == '+') i++;
+			int exponent = 0;
+			for (; i < length && exponent < 1000; i++) {
+				exponent = exponent * 10 + value.charAt(i) - '0';
+			}
+			magnitude += minus ? -exponent : exponent;
+		}
+		return digits == 0 || magnitude > -290 && magnitude < 290
+				|| roundTrip(value);
+	}
+
+	/**
+	 * ตรวจสอบว่าข้อความของตัวเลขมีค่าเท่ากับ <code>double</code>
+	 * ที่แปลงได้เมื่อเขียนกลับด้วย {@link Double#toString(double)} หรือไม่
+	 *
+	 * @param value
+	 *            ข้อความของ JSON Value ชนิด {@link #INTEGER} หรือ
+	 *            {@link #DECIMAL}
+	 * @return true หากแปลงเป็น <code>double</code> ได้โดยไม่สูญเสียค่า
+	 */
+	private static boolean roundTrip(CharSequence value) {
+		double result = toDouble(value);
+		return !Double.isInfinite(result)
+				&& new BigDecimal(value.toString()).compareTo(
+						new BigDecimal(Double.toString(result))) == 0;
+	}
+
+	/**
+	 * แปลงจำนวนเต็มเป็น {@link Number} ที่มีขนาดเล็กที่สุด
+	 * ({@link Integer} หรือ {@link Long})
+	 *
+	 * @param value
+	 *            ค่าที่ต้องการแปลง
+	 * @return ค่าของ value ในรูปแบบของ {@link Number}
+	 */
+	static Number narrow(long value) {
+		if (value == (int) value) return (int) value;
+		else return value;
+	}
+
+	/**
+	 * แปลงจำนวนทศนิยมเป็น {@link Number} ที่มีขนาดเล็กที่สุด
+	 * ({@link Integer}, {@link Long} หรือ {@link Double}) โดยไม่สูญเสียค่า
+	 *
+	 * @param value
+	 *            ค่าที่ต้องการแปลง
+	 * @return ค่าของ value ในรูปแบบของ {@link Number}
+	 */
+	static Number narrow(double value) {
+		if (value == (int) value) return (int) value;
+		else if (value == (long) value) return (long) value;
+		else return value;
+	}
+
+	/**
+	 * ตรวจสอบข้อความว่าอยู่ในรูปแบบของวันที่และเวลาหรือไม่ ตามรูปแบบ
+	 * <code>yyyy-M-d'T'H:m:s.SSS</code> ตามด้วย <code>Z</code> หรือ
+	 * <code>&plusmn;H:mm</code> (ทุกส่วนไม่บังคับ แต่ต้องมีวันที่หรือเวลา
+	 * อย่างน้อยหนึ่งอย่าง) และเก็บค่าของแต่ละส่วนลงใน fields
+	 *
+	 * @param value
+	 *            ข้อความที่ต้องการตรวจสอบ
+	 * @param fields
+	 *            <code>int[8]</code> สำหรับเก็บค่าของแต่ละส่วน
+	 *            ({@link #YEAR} ถึง {@link #ZONE}) โดยส่วนที่ไม่มีจะเป็น -1
+	 *            หรือ null หากต้องการเพียงตรวจสอบรูปแบบ
+	 * @return true หาก value อยู่ในรูปแบบของวันที่และเวลา
+	 */
+	static boolean date(CharSequence value, int[] fields) {
+		int length = value.length();
+		int year = -1, month = -1, day = -1, hour = -1, minute = -1;
+		int second = -1, milli = -1, zone = -1;
+		int i = 0;
+		if (length > 4 && digit(value, 3) && value.charAt(4) == '-'
+				&& digit(value, 0) && digit(value, 1) && digit(value, 2)) {
+			year = number(value, 0, 4);
+			if ((i = run(value, 5, 2)) < 0 || i == 5 || i == length
+					|| value.charAt(i) != '-')
+				return false;
+			month = number(value, 5, i);
+			int start = ++i;
+			if ((i = run(value, start, 2)) < 0 || i == start) return false;
+			day = number(value, start, i);
+			if (i < length) {
+				char c = value.charAt(i++);
+				if (c != 'T' && c != ' ') return false;
+			}
+		} else if (length > 0
+				&& (value.charAt(0) == 'T' || value.charAt(0) == ' ')) {
+			i = 1;
+		}
+		if (digit(value, i)) {
+			int start = i;
+			if ((i = run(value, start, 2)) < 0 || i == length
+					|| value.charAt(i) != ':')
+				return false;
+			hour = number(value, start, i);
+			start = ++i;
+			if ((i = run(value, start, 2)) < 0 || i == start) return false;
+			minute = number(value, start, i);
+			if (i < length && value.charAt(i) == ':') {
+				start = ++i;
+				if ((i = run(value, start, 2)) < 0 || i == start)
+					return false;
+				second = number(value, start, i);
+				if (i < length && value.charAt(i) == '.') {
+					start = ++i;
+					if ((i = run(value, start, 3)) < 0 || i == start)
+						return false;
+					milli = number(value, start, i);
+					for (int n = i - start; n < 3; n++) {
+						milli *= 10;
+					}
+				}
+			}
+		}
+		if (i < length) {
+			char c = value.charAt(i);
+			if (c == 'Z') {
+				zone = i++;
+			} else if (c == '+' || c == '-') {
+				zone = i++;
+				int start = i;
+				if ((i = run(value, start, 2)) < 0 || i == start) return false;
+				if (i < length && value.charAt(i) == ':') {
+					start = ++i;
+					if ((i = run(value, start, 2)) < 0 || i - start != 2)
+						return false;
+				}
+			}
+		}
+		if (i != length || (year < 0 && hour < 0)) return false;
+		else if (fields != null) {
+			fields[YEAR] = year;
+			fields[MONTH] = month;
+			fields[DAY] = day;
+			fields[HOUR] = hour;
+			fields[MINUTE] = minute;
+			fields[SECOND] = second;
+			fields[MILLI] = milli;
+			fields[ZONE] = zone;
+		}
+		return true;
+	}
+
+	/**
+	 * หาตำแหน่งสิ้นสุดของตัวเลขที่ต่อเนื่องกันไม่เกินจำนวนหลักที่ระบุ
+	 *
+	 * @param value
+	 *            ข้อความ
+	 * @param start
+	 *            ตำแหน่งเริ่มต้น
+	 * @param max
+	 *            จำนวนหลักสูงสุด
+	 * @return ตำแหน่งถัดจากตัวเลขตัวสุดท้าย หรือ -1
+	 *         หากมีตัวเลขเกินจำนวนหลักที่ระบุ
+	 */
+	private static int run(CharSequence value, int start, int max) {
+		int i = start;
+		while (digit(value, i)) {
+			if (++i - start > max) return -1;
+		}
+		return i;
+	}
+
+	/**
+	 * แปลงตัวเลขในช่วงที่ระบุเป็น <code>int</code>
+	 *
+	 * @param value
+	 *            ข้อความ
+	 * @param start
+	 *            ตำแหน่งเริ่มต้น
+	 * @param end
+	 *            ตำแหน่งสิ้นสุด (ไม่รวม)
+	 * @return ค่าของตัวเลข
+	 */
+	static int number(CharSequence value, int start, int end) {
+		int result = 0;
+		for (int i = start; i < end; i++) {
+			result = result * 10 + (value.charAt(i) - '0');
+		}
+		return result;
+	}
+}
@@ -0,0 +1,1461 @@
+package org.dat.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <h3>Class Source</h3>
+ * <p>
+ * Class Source เป็น Class สำหรับอ่านข้อมูล JSON String ทีละ Token
+ * โดยเลื่อนตำแหน่ง (cursor) ไปข้างหน้าเพียงทางเดียว
+ * โดยไม่มีการตัด (substring) ข้อมูลออกมาเป็นช่วงๆ
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+abstract class Source implements Closeable {
+	/**
+	 * <h3>Class Source.Chars</h3>
+	 * <p>
+	 * Class Source.Chars เป็น Class สำหรับอ่านข้อมูล JSON String จาก
+	 * <code>char[]</code> หรือจาก {@link Reader} ผ่าน buffer ขนาดคงที่
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static class Chars extends Source {
+		/**
+		 * Attribute สำหรับเก็บข้อมูล JSON String ที่อ่านเข้ามา
+		 */
+		protected final char[] buf;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งปัจจุบันของ cursor ใน {@link #buf}
+		 */
+		protected int pos;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งสิ้นสุดของข้อมูลใน {@link #buf}
+		 */
+		protected int limit;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งของ <code>buf[0]</code>
+		 * นับจากจุดเริ่มต้นของข้อมูล
+		 */
+		protected long base;
+		/**
+		 * Attribute สำหรับจดจำ {@link Reader} ที่ใช้เติมข้อมูลลงใน
+		 * {@link #buf} (null หากข้อมูลทั้งหมดอยู่ใน {@link #buf} แล้ว)
+		 */
+		protected final Reader reader;
+		/**
+		 * Attribute สำหรับใช้ต่อ String ที่มีการ escape หรืออ่านข้าม
+		 * buffer (ใช้ซ้ำตลอดการอ่าน)
+		 */
+		private final StringBuilder text = new StringBuilder();
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Chars}
+		 *
+		 * @param buf
+		 *            ข้อมูล JSON String
+		 * @param offset
+		 *            ตำแหน่งเริ่มต้นของข้อมูล
+		 * @param length
+		 *            ความยาวของข้อมูล
+		 * @throws NullPointerException
+		 *             buf เป็น null
+		 */
+		Chars(char[] buf, int offset, int length) throws NullPointerException {
+			if ((this.buf = buf) == null) throw new NullPointerException();
+			this.pos = offset;
+			this.limit = offset + length;
+			this.base = -offset;
+			this.reader = null;
+		}
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Chars}
+		 *
+		 * @param buf
+		 *            ข้อมูล JSON String
+		 * @throws NullPointerException
+		 *             buf เป็น null
+		 */
+		Chars(char[] buf) throws NullPointerException {
+			this(buf, 0, buf.length);
+		}
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Chars} ที่อ่านข้อมูลจาก
+		 * {@link Reader}
+		 *
+		 * @param reader
+		 *            {@link Reader} ของข้อมูล JSON String
+		 * @param size
+		 *            ขนาดของ buffer
+		 * @throws NullPointerException
+		 *             reader เป็น null
+		 */
+		Chars(Reader reader, int size) throws NullPointerException {
+			if ((this.reader = reader) == null)
+				throw new NullPointerException();
+			this.buf = new char[Math.max(size, 16)];
+		}
+
+		/**
+		 * เติมข้อมูลชุดถัดไปลงใน {@link #buf} แทนข้อมูลเดิมทั้งหมด
+		 *
+		 * @return false หากไม่มีข้อมูลเหลือให้อ่าน
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 */
+		protected boolean fill() throws IOException {
+			if (reader == null) return false;
+			base += pos;
+			pos = limit = 0;
+			return read(1);
+		}
+
+		/**
+		 * เลื่อนข้อมูลที่ยังไม่ได้อ่านไปไว้ต้น {@link #buf}
+		 * แล้วเติมข้อมูลจนมีอย่างน้อย <code>length</code> ตัวอักษร
+		 *
+		 * @param length
+		 *            จำนวนตัวอักษรที่ต้องการ
+		 * @return false หากข้อมูลไม่พอ
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 */
+		protected boolean ensure(int length) throws IOException {
+			if (limit - pos >= length) return true;
+			else if (reader == null) return false;
+			System.arraycopy(buf, pos, buf, 0, limit - pos);
+			base += pos;
+			limit -= pos;
+			pos = 0;
+			return read(length);
+		}
+
+		/**
+		 * อ่านข้อมูลจาก {@link #reader} ต่อท้าย {@link #buf}
+		 *
+		 * @param length
+		 *            จำนวนตัวอักษรที่ต้องการ
+		 * @return false หากข้อมูลไม่พอ
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 */
+		private boolean read(int length) throws IOException {
+			for (int r; limit < length; limit += r) {
+				if ((r = reader.read(buf, limit, buf.length - limit)) < 0)
+					return false;
+			}
+			return true;
+		}
+
+		@Override
+		long position() {
+			return base + pos;
+		}
+
+		@Override
+		boolean buffered() {
+			return reader == null;
+		}
+
+		@Override
+		long end() {
+			return reader == null ? base + limit : -1;
+		}
+
+		@Override
+		Source slice(long start, long end)
+				throws UnsupportedOperationException {
+			if (reader != null) throw new UnsupportedOperationException();
+			Chars slice = new Chars(buf, (int) (start - base),
+					(int) (end - start));
+			slice.base = base;
+			return slice;
+		}
+
+		@Override
+		String text(long start, long end)
+				throws UnsupportedOperationException {
+			if (reader != null) throw new UnsupportedOperationException();
+			return new String(buf, (int) (start - base), (int) (end - start));
+		}
+
+		@Override
+		int peek() throws IOException {
+			do {
+				for (char[] buf = this.buf; pos < limit; pos++) {
+					if (buf[pos] > ' ') return buf[pos];
+				}
+			} while (fill());
+			return -1;
+		}
+
+		@Override
+		void skip() {
+			pos++;
+		}
+
+		@Override
+		String string(char quote) throws IOException {
+			char[] buf = this.buf;
+			int start = pos;
+			for (; pos < limit; pos++) {
+				char c = buf[pos];
+				if (c == quote) return new String(buf, start, pos++ - start);
+				else if (c == '\\') break;
+			}
+			text.setLength(0);
+			return escaped(quote, start, true);
+		}
+
+		@Override
+		void skipString(char quote) throws IOException {
+			escaped(quote, pos, false);
+		}
+
+		/**
+		 * อ่าน String ต่อจากตำแหน่งปัจจุบัน กรณีที่มีการ escape
+		 * หรือข้อมูลอยู่ข้าม buffer
+		 *
+		 * @param quote
+		 *            Quotation Mark ที่ครอบ String
+		 * @param mark
+		 *            ตำแหน่งเริ่มต้นของข้อความที่ยังไม่ได้เก็บ
+		 * @param keep
+		 *            true หากต้องการเก็บข้อความไว้ใน {@link #text}
+		 * @return String ที่อ่านได้ หรือ null หาก keep เป็น false
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 * @throws IllegalArgumentException
+		 *             ไม่พบ Quotation Mark ปิดท้าย
+		 */
+		private String escaped(char quote, int mark, boolean keep)
+				throws IOException, IllegalArgumentException {
+			char[] buf = this.buf;
+			long open = base + mark - 1;
+			do {
+				for (; pos < limit; pos++) {
+					char c = buf[pos];
+					if (c == quote) {
+						if (!keep) {
+							pos++;
+							return null;
+						}
+						text.append(buf, mark, pos++ - mark);
+						return text.toString();
+					} else if (c == '\\') {
+						if (keep) text.append(buf, mark, pos - mark);
+						if (pos + 1 == limit && !ensure(2))
+							throw error("Unterminated string", open);
+						int e = unescape(buf[pos + 1]);
+						if (e < 0 && buf[pos + 1] == 'u'
+								&& (limit - pos >= 6 || ensure(6))) {
+							e = hex(buf[pos + 2], buf[pos + 3], buf[pos + 4],
+									buf[pos + 5]);
+							if (e >= 0) pos += 4;
+						}
+						if (e < 0) {
+							mark = pos++;
+						} else {
+							if (keep) text.append((char) e);
+							mark = ++pos + 1;
+						}
+					}
+				}
+				if (keep) text.append(buf, mark, pos - mark);
+				mark = 0;
+			} while (fill());
+			throw error("Unterminated string", open);
+		}
+
+		@Override
+		String name() throws IOException {
+			return scan(true, true, true);
+		}
+
+		@Override
+		void skipName() throws IOException {
+			scan(true, true, false);
+		}
+
+		@Override
+		String bare(boolean nested) throws IOException {
+			return scan(false, nested, true);
+		}
+
+		@Override
+		void skipBare(boolean nested) throws IOException {
+			scan(false, nested, false);
+		}
+
+		/**
+		 * อ่านข้อความที่ไม่ได้ครอบด้วย Quotation Mark
+		 *
+		 * @param name
+		 *            true หากเป็น key ของ JSON Object (อ่านจนถึง
+		 *            <code>':'</code>)
+		 * @param nested
+		 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+		 * @param keep
+		 *            true หากต้องการข้อความที่อ่านได้
+		 * @return ข้อความที่ตัด whitespace ท้ายออกแล้ว หรือ null หาก keep
+		 *         เป็น false
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 * @throws IllegalArgumentException
+		 *             ไม่พบ <code>':'</code> ท้าย key
+		 */
+		private String scan(boolean name, boolean nested, boolean keep)
+				throws IOException, IllegalArgumentException {
+			char[] buf = this.buf;
+			int start = pos;
+			int end = pos;
+			int length = -1;
+			boolean found = false;
+			scan: do {
+				for (; pos < limit; pos++) {
+					char c = buf[pos];
+					if (c <= ' ') {
+						continue;
+					} else if (name && c == ':') {
+						pos++;
+						found = true;
+						break scan;
+					} else if (nested && (c == ',' || c == ']' || c == '}'
+							|| c == '[' || c == '{')) {
+						if (name) throw error("Expected ':'");
+						break scan;
+					}
+					end = pos + 1;
+				}
+				if (keep) {
+					if (length < 0) text.setLength(0);
+					text.append(buf, start, limit - start);
+					length = end > start ? text.length() - (limit - end)
+							: Math.max(length, 0);
+				}
+				start = end = 0;
+			} while (fill());
+			if (name && !found) throw error("Expected ':'");
+			else if (!keep) return null;
+			else if (length < 0) return new String(buf, start, end - start);
+			else if (end > start) {
+				text.append(buf, start, end - start);
+				length = text.length();
+			}
+			text.setLength(length);
+			return text.toString();
+		}
+
+		@Override
+		String rest(long start) throws IOException {
+			int from = (int) Math.max(start - base, 0);
+			text.setLength(0);
+			do {
+				text.append(buf, from, limit - from);
+				pos = limit;
+				from = 0;
+			} while (fill());
+			return text.toString();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (reader != null) reader.close();
+		}
+	}
+
+	/**
+	 * <h3>Class Source.Bytes</h3>
+	 * <p>
+	 * Class Source.Bytes เป็น Class สำหรับอ่านข้อมูล JSON String ที่เข้ารหัส
+	 * แบบ UTF-8 จาก <code>byte[]</code> หรือจาก {@link InputStream} ผ่าน
+	 * buffer ขนาดคงที่ โดยตรวจสอบโครงสร้างจาก byte โดยตรง และแปลงเป็น
+	 * String เฉพาะข้อความที่ต้องการเท่านั้น
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static class Bytes extends Source {
+		/**
+		 * Attribute สำหรับเก็บข้อมูล JSON String ที่อ่านเข้ามา
+		 */
+		protected final byte[] buf;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งปัจจุบันของ cursor ใน {@link #buf}
+		 */
+		protected int pos;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งสิ้นสุดของข้อมูลใน {@link #buf}
+		 */
+		protected int limit;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งของ <code>buf[0]</code>
+		 * นับจากจุดเริ่มต้นของข้อมูล
+		 */
+		protected long base;
+		/**
+		 * Attribute สำหรับจดจำ {@link InputStream} ที่ใช้เติมข้อมูลลงใน
+		 * {@link #buf} (null หากข้อมูลทั้งหมดอยู่ใน {@link #buf} แล้ว)
+		 */
+		protected final InputStream input;
+		/**
+		 * Attribute สำหรับใช้ต่อ byte ของ String ที่มีการ escape
+		 * หรืออ่านข้าม buffer (ใช้ซ้ำตลอดการอ่าน)
+		 */
+		private byte[] text = new byte[64];
+		/**
+		 * Attribute สำหรับเก็บจำนวน byte ที่อยู่ใน {@link #text}
+		 */
+		private int length;
+		/**
+		 * Attribute สำหรับเก็บ surrogate ที่ไม่มีคู่ซึ่งไม่สามารถเข้ารหัสแบบ
+		 * UTF-8 ใน {@link #text} ได้ (เก็บเป็นคู่ของตำแหน่งใน {@link #text}
+		 * และ code unit)
+		 */
+		private int[] surrogates = new int[8];
+		/**
+		 * Attribute สำหรับเก็บจำนวนข้อมูลที่อยู่ใน {@link #surrogates}
+		 */
+		private int lone;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Bytes}
+		 *
+		 * @param buf
+		 *            ข้อมูล JSON String
+		 * @param offset
+		 *            ตำแหน่งเริ่มต้นของข้อมูล
+		 * @param length
+		 *            ความยาวของข้อมูล
+		 * @throws NullPointerException
+		 *             buf เป็น null
+		 */
+		Bytes(byte[] buf, int offset, int length) throws NullPointerException {
+			if ((this.buf = buf) == null) throw new NullPointerException();
+			this.pos = offset;
+			this.limit = offset + length;
+			this.base = -offset;
+			this.input = null;
+		}
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Bytes} ที่อ่านข้อมูลจาก
+		 * {@link InputStream}
+		 *
+		 * @param input
+		 *            {@link InputStream} ของข้อมูล JSON String
+		 * @param size
+		 *            ขนาดของ buffer
+		 * @throws NullPointerException
+		 *             input เป็น null
+		 */
+		Bytes(InputStream input, int size) throws NullPointerException {
+			if ((this.input = input) == null)
+				throw new NullPointerException();
+			this.buf = new byte[Math.max(size, 16)];
+		}
+
+		/**
+		 * อ่านข้าม Byte Order Mark ของ UTF-8 (ถ้ามี)
+		 *
+		 * @return Object นี้
+		 */
+		Bytes skipBom() {
+			if (limit - pos >= 3 && buf[pos] == (byte) 0xEF
+					&& buf[pos + 1] == (byte) 0xBB
+					&& buf[pos + 2] == (byte) 0xBF) {
+				pos += 3;
+			}
+			return this;
+		}
+
+		/**
+		 * เติมข้อมูลชุดถัดไปลงใน {@link #buf} แทนข้อมูลเดิมทั้งหมด
+		 *
+		 * @return false หากไม่มีข้อมูลเหลือให้อ่าน
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 */
+		protected boolean fill() throws IOException {
+			if (input == null) return false;
+			base += pos;
+			pos = limit = 0;
+			return read(1);
+		}
+
+		/**
+		 * เลื่อนข้อมูลที่ยังไม่ได้อ่านไปไว้ต้น {@link #buf}
+		 * แล้วเติมข้อมูลจนมีอย่างน้อย <code>length</code> byte
+		 *
+		 * @param length
+		 *            จำนวน byte ที่ต้องการ
+		 * @return false หากข้อมูลไม่พอ
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 */
+		protected boolean ensure(int length) throws IOException {
+			if (limit - pos >= length) return true;
+			else if (input == null) return false;
+			System.arraycopy(buf, pos, buf, 0, limit - pos);
+			base += pos;
+			limit -= pos;
+			pos = 0;
+			return read(length);
+		}
+
+		/**
+		 * อ่านข้อมูลจาก {@link #input} ต่อท้าย {@link #buf}
+		 *
+		 * @param length
+		 *            จำนวน byte ที่ต้องการ
+		 * @return false หากข้อมูลไม่พอ
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 */
+		private boolean read(int length) throws IOException {
+			for (int r; limit < length; limit += r) {
+				if ((r = input.read(buf, limit, buf.length - limit)) < 0)
+					return false;
+			}
+			return true;
+		}
+
+		/**
+		 * ต่อ byte ท้าย {@link #text}
+		 *
+		 * @param b
+		 *            ข้อมูลที่ต้องการต่อ
+		 * @param offset
+		 *            ตำแหน่งเริ่มต้นของข้อมูล
+		 * @param count
+		 *            จำนวน byte
+		 */
+		private void append(byte[] b, int offset, int count) {
+			if (length + count > text.length) {
+				text = Arrays.copyOf(text,
+						Math.max(text.length * 2, length + count));
+			}
+			System.arraycopy(b, offset, text, length, count);
+			length += count;
+		}
+
+		/**
+		 * ต่อตัวอักษรท้าย {@link #text} โดยเข้ารหัสแบบ UTF-8
+		 * (surrogate ที่ไม่มีคู่จะถูกเก็บไว้ใน {@link #surrogates})
+		 *
+		 * @param c
+		 *            code point ของตัวอักษร
+		 */
+		private void append(int c) {
+			if (length + 4 > text.length) {
+				text = Arrays.copyOf(text, text.length * 2);
+			}
+			if (c < 0x80) {
+				text[length++] = (byte) c;
+			} else if (c < 0x800) {
+				text[length++] = (byte) (0xC0 | c >> 6);
+				text[length++] = (byte) (0x80 | c & 0x3F);
+			} else if (c >= Character.MIN_SURROGATE
+					&& c <= Character.MAX_SURROGATE) {
+				if (lone + 2 > surrogates.length) {
+					surrogates = Arrays.copyOf(surrogates, lone * 2);
+				}
+				surrogates[lone++] = length;
+				surrogates[lone++] = c;
+			} else if (c < 0x10000) {
+				text[length++] = (byte) (0xE0 | c >> 12);
+				text[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+				text[length++] = (byte) (0x80 | c & 0x3F);
+			} else {
+				text[length++] = (byte) (0xF0 | c >> 18);
+				text[length++] = (byte) (0x80 | c >> 12 & 0x3F);
+				text[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+				text[length++] = (byte) (0x80 | c & 0x3F);
+			}
+		}
+
+		/**
+		 * แปลง {@link #text} เป็น String พร้อมแทรก surrogate ที่ไม่มีคู่จาก
+		 * {@link #surrogates} กลับเข้าไปในตำแหน่งเดิม
+		 *
+		 * @return String ที่อ่านได้
+		 */
+		private String text() {
+			if (lone == 0) {
+				return new String(text, 0, length, StandardCharsets.UTF_8);
+			}
+			StringBuilder builder = new StringBuilder(length);
+			int from = 0;
+			for (int i = 0; i < lone; i += 2) {
+				int at = surrogates[i];
+				builder.append(new String(text, from, at - from,
+						StandardCharsets.UTF_8));
+				builder.append((char) surrogates[i + 1]);
+				from = at;
+			}
+			builder.append(new String(text, from, length - from,
+					StandardCharsets.UTF_8));
+			return builder.toString();
+		}
+
+		@Override
+		long position() {
+			return base + pos;
+		}
+
+		@Override
+		boolean buffered() {
+			return input == null;
+		}
+
+		@Override
+		long end() {
+			return input == null ? base + limit : -1;
+		}
+
+		@Override
+		Source slice(long start, long end)
+				throws UnsupportedOperationException {
+			if (input != null) throw new UnsupportedOperationException();
+			Bytes slice = new Bytes(buf, (int) (start - base),
+					(int) (end - start));
+			slice.base = base;
+			return slice;
+		}
+
+		@Override
+		String text(long start, long end)
+				throws UnsupportedOperationException {
+			if (input != null) throw new UnsupportedOperationException();
+			return new String(buf, (int) (start - base), (int) (end - start),
+					StandardCharsets.UTF_8);
+		}
+
+		@Override
+		int peek() throws IOException {
+			do {
+				for (byte[] buf = this.buf; pos < limit; pos++) {
+					byte c = buf[pos];
+					if (c > ' ' || c < 0) return c & 0xFF;
+				}
+			} while (fill());
+			return -1;
+		}
+
+		@Override
+		void skip() {
+			pos++;
+		}
+
+		@Override
+		String string(char quote) throws IOException {
+			byte[] buf = this.buf;
+			int start = pos;
+			int bits = 0;
+			for (; pos < limit; pos++) {
+				byte c = buf[pos];
+				if (c == quote) {
+					return new String(buf, start, pos++ - start, bits < 0
+							? StandardCharsets.UTF_8
+							: StandardCharsets.ISO_8859_1);
+				} else if (c == '\\') break;
+				bits |= c;
+			}
+			length = lone = 0;
+			return escaped(quote, start, true);
+		}
+
+		@Override
+		void skipString(char quote) throws IOException {
+			escaped(quote, pos, false);
+		}
+
+		/**
+		 * อ่าน String ต่อจากตำแหน่งปัจจุบัน กรณีที่มีการ escape
+		 * หรือข้อมูลอยู่ข้าม buffer
+		 *
+		 * @param quote
+		 *            Quotation Mark ที่ครอบ String
+		 * @param mark
+		 *            ตำแหน่งเริ่มต้นของข้อความที่ยังไม่ได้เก็บ
+		 * @param keep
+		 *            true หากต้องการเก็บข้อความไว้ใน {@link #text}
+		 * @return String ที่อ่านได้ หรือ null หาก keep เป็น false
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 * @throws IllegalArgumentException
+		 *             ไม่พบ Quotation Mark ปิดท้าย
+		 */
+		private String escaped(char quote, int mark, boolean keep)
+				throws IOException, IllegalArgumentException {
+			byte[] buf = this.buf;
+			long open = base + mark - 1;
+			do {
+				for (; pos < limit; pos++) {
+					byte c = buf[pos];
+					if (c == quote) {
+						if (!keep) {
+							pos++;
+							return null;
+						}
+						append(buf, mark, pos++ - mark);
+						return text();
+					} else if (c == '\\') {
+						if (keep) append(buf, mark, pos - mark);
+						if (pos + 1 == limit && !ensure(2))
+							throw error("Unterminated string", open);
+						int e = unescape(buf[pos + 1]);
+						if (e < 0 && buf[pos + 1] == 'u'
+								&& (limit - pos >= 6 || ensure(6))) {
+							e = hex(buf[pos + 2], buf[pos + 3], buf[pos + 4],
+									buf[pos + 5]);
+							if (e >= 0) pos += 4;
+							if (Character.isHighSurrogate((char) e)
+									&& (limit - pos >= 8 || ensure(8))
+									&& buf[pos + 2] == '\\'
+									&& buf[pos + 3] == 'u') {
+								int low = hex(buf[pos + 4], buf[pos + 5],
+										buf[pos + 6], buf[pos + 7]);
+								if (Character.isLowSurrogate((char) low)) {
+									e = Character.toCodePoint((char) e,
+											(char) low);
+									pos += 6;
+								}
+							}
+						}
+						if (e < 0) {
+							mark = pos++;
+						} else {
+							if (keep) append(e);
+							mark = ++pos + 1;
+						}
+					}
+				}
+				if (keep) append(buf, mark, pos - mark);
+				mark = 0;
+			} while (fill());
+			throw error("Unterminated string", open);
+		}
+
+		@Override
+		String name() throws IOException {
+			return scan(true, true, true);
+		}
+
+		@Override
+		void skipName() throws IOException {
+			scan(true, true, false);
+		}
+
+		@Override
+		String bare(boolean nested) throws IOException {
+			return scan(false, nested, true);
+		}
+
+		@Override
+		void skipBare(boolean nested) throws IOException {
+			scan(false, nested, false);
+		}
+
+		/**
+		 * อ่านข้อความที่ไม่ได้ครอบด้วย Quotation Mark
+		 *
+		 * @param name
+		 *            true หากเป็น key ของ JSON Object (อ่านจนถึง
+		 *            <code>':'</code>)
+		 * @param nested
+		 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+		 * @param keep
+		 *            true หากต้องการข้อความที่อ่านได้
+		 * @return ข้อความที่ตัด whitespace ท้ายออกแล้ว หรือ null หาก keep
+		 *         เป็น false
+		 * @throws IOException
+		 *             ไม่สามารถอ่านข้อมูลได้
+		 * @throws IllegalArgumentException
+		 *             ไม่พบ <code>':'</code> ท้าย key
+		 */
+		private String scan(boolean name, boolean nested, boolean keep)
+				throws IOException, IllegalArgumentException {
+			byte[] buf = this.buf;
+			int start = pos;
+			int end = pos;
+			int count = -1;
+			boolean found = false;
+			scan: do {
+				for (; pos < limit; pos++) {
+					byte c = buf[pos];
+					if (c <= ' ' && c >= 0) {
+						continue;
+					} else if (name && c == ':') {
+						pos++;
+						found = true;
+						break scan;
+					} else if (nested && (c == ',' || c == ']' || c == '}'
+							|| c == '[' || c == '{')) {
+						if (name) throw error("Expected ':'");
+						break scan;
+					}
+					end = pos + 1;
+				}
+				if (keep) {
+					if (count < 0) length = 0;
+					append(buf, start, limit - start);
+					count = end > start ? length - (limit - end)
+							: Math.max(count, 0);
+				}
+				start = end = 0;
+			} while (fill());
+			if (name && !found) throw error("Expected ':'");
+			else if (!keep) return null;
+			else if (count < 0) {
+				return new String(buf, start, end - start,
+						StandardCharsets.UTF_8);
+			} else if (end > start) {
+				append(buf, start, end - start);
+				count = length;
+			}
+			return new String(text, 0, count, StandardCharsets.UTF_8);
+		}
+
+		@Override
+		String rest(long start) throws IOException {
+			int from = (int) Math.max(start - base, 0);
+			length = 0;
+			do {
+				append(buf, from, limit - from);
+				pos = limit;
+				from = 0;
+			} while (fill());
+			return new String(text, 0, length, StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (input != null) input.close();
+		}
+	}
+
+	/**
+	 * <h3>Class Source.Buffer</h3>
+	 * <p>
+	 * Class Source.Buffer เป็น {@link InputStream} สำหรับอ่านข้อมูลจาก
+	 * {@link ByteBuffer} ที่ไม่มี <code>byte[]</code> รองรับ เช่น direct
+	 * buffer
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static class Buffer extends InputStream {
+		/**
+		 * Attribute สำหรับจดจำ {@link ByteBuffer} ที่อ่านข้อมูล
+		 */
+		protected final ByteBuffer buffer;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Buffer}
+		 *
+		 * @param buffer
+		 *            {@link ByteBuffer} ที่อ่านข้อมูล
+		 * @throws NullPointerException
+		 *             buffer เป็น null
+		 */
+		Buffer(ByteBuffer buffer) throws NullPointerException {
+			if ((this.buffer = buffer) == null)
+				throw new NullPointerException();
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (!buffer.hasRemaining()) return -1;
+			len = Math.min(len, buffer.remaining());
+			buffer.get(b, off, len);
+			return len;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+
+	/**
+	 * <h3>Class Source.Mapped</h3>
+	 * <p>
+	 * Class Source.Mapped เป็น {@link InputStream} สำหรับอ่านข้อมูลจากไฟล์
+	 * ผ่าน memory-mapped region ทีละช่วง ({@link #WINDOW} byte)
+	 * ทำให้อ่านไฟล์ที่มีขนาดเกิน 2 GB ได้ และใช้หน่วยความจำเฉพาะส่วนที่อ่านถึง
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	static class Mapped extends InputStream {
+		/**
+		 * ขนาดสูงสุดของ memory-mapped region แต่ละช่วง
+		 */
+		static final long WINDOW = 1L << 30;
+		/**
+		 * Attribute สำหรับจดจำ {@link FileChannel} ของไฟล์
+		 */
+		protected final FileChannel channel;
+		/**
+		 * Attribute สำหรับเก็บขนาดของไฟล์
+		 */
+		protected final long size;
+		/**
+		 * Attribute สำหรับเก็บตำแหน่งในไฟล์ของ region ถัดไป
+		 */
+		protected long offset;
+		/**
+		 * Attribute สำหรับเก็บ region ที่กำลังอ่าน
+		 */
+		protected ByteBuffer buffer;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Mapped}
+		 *
+		 * @param channel
+		 *            {@link FileChannel} ของไฟล์
+		 * @throws NullPointerException
+		 *             channel เป็น null
+		 * @throws IOException
+		 *             ไม่สามารถอ่านขนาดของไฟล์ได้
+		 */
+		Mapped(FileChannel channel) throws NullPointerException, IOException {
+			this.size = (this.channel = channel).size();
+			this.buffer = ByteBuffer.allocate(0);
+		}
+
+		/**
+		 * ตรวจสอบว่ายังมีข้อมูลเหลือหรือไม่ และ map region
+		 * ถัดไปหากอ่าน region ปัจจุบันหมดแล้ว
+		 *
+		 * @return false หากอ่านข้อมูลครบทั้งไฟล์แล้ว
+		 * @throws IOException
+		 *             ไม่สามารถ map ไฟล์ได้
+		 */
+		private boolean next() throws IOException {
+			if (buffer.hasRemaining()) return true;
+			else if (offset >= size) return false;
+			long length = Math.min(WINDOW, size - offset);
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+			offset += length;
+			return true;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return next() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (!next()) return -1;
+			len = Math.min(len, buffer.remaining());
+			buffer.get(b, off, len);
+			return len;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(Integer.MAX_VALUE,
+					buffer.remaining() + size - offset);
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+
+	/**
+	 * สร้าง {@link Source} สำหรับอ่านข้อมูล JSON String จาก
+	 * <code>byte[]</code> โดยตรวจสอบการเข้ารหัส (UTF-8, UTF-16 หรือ
+	 * UTF-32) จาก Byte Order Mark หรือ byte แรกของข้อมูล
+	 *
+	 * @param buf
+	 *            ข้อมูล JSON String
+	 * @param offset
+	 *            ตำแหน่งเริ่มต้นของข้อมูล
+	 * @param length
+	 *            ความยาวของข้อมูล
+	 * @return {@link Source} ของข้อมูล
+	 * @throws NullPointerException
+	 *             buf เป็น null
+	 */
+	static Source of(byte[] buf, int offset, int length)
+			throws NullPointerException {
+		Charset charset = charset(buf, offset, length);
+		if (charset == StandardCharsets.UTF_8)
+			return new Bytes(buf, offset, length).skipBom();
+		return new Chars(new String(buf, offset, length, charset)
+				.toCharArray());
+	}
+
+	/**
+	 * สร้าง {@link Source} สำหรับอ่านข้อมูล JSON String จาก
+	 * {@link ByteBuffer} ตั้งแต่ position ถึง limit
+	 *
+	 * @param buf
+	 *            ข้อมูล JSON String
+	 * @return {@link Source} ของข้อมูล
+	 * @throws NullPointerException
+	 *             buf เป็น null
+	 * @see #of(byte[], int, int)
+	 */
+	static Source of(ByteBuffer buf) throws NullPointerException {
+		if (buf.hasArray()) {
+			return of(buf.array(), buf.arrayOffset() + buf.position(),
+					buf.remaining());
+		}
+		try {
+			return of(new Buffer(buf.slice()), JSONReader.BUFFER_SIZE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * สร้าง {@link Source} สำหรับอ่านข้อมูล JSON String จาก
+	 * {@link InputStream} ผ่าน buffer ขนาดคงที่
+	 *
+	 * @param input
+	 *            {@link InputStream} ของข้อมูล JSON String
+	 * @param size
+	 *            ขนาดของ buffer
+	 * @return {@link Source} ของข้อมูล
+	 * @throws NullPointerException
+	 *             input เป็น null
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @see #of(byte[], int, int)
+	 */
+	static Source of(InputStream input, int size)
+			throws NullPointerException, IOException {
+		Bytes bytes = new Bytes(input, size);
+		bytes.ensure(4);
+		Charset charset = charset(bytes.buf, bytes.pos, bytes.limit);
+		if (charset == StandardCharsets.UTF_8) return bytes.skipBom();
+		return new Chars(new InputStreamReader(new SequenceInputStream(
+				new ByteArrayInputStream(bytes.buf, 0, bytes.limit), input),
+				charset), size);
+	}
+
+	/**
+	 * ตรวจสอบการเข้ารหัสของข้อมูล JSON String จาก Byte Order Mark
+	 * หรือตำแหน่งของ byte ที่เป็น 0 ใน 4 byte แรก (RFC 4627)
+	 *
+	 * @param buf
+	 *            ข้อมูล JSON String
+	 * @param offset
+	 *            ตำแหน่งเริ่มต้นของข้อมูล
+	 * @param length
+	 *            ความยาวของข้อมูล
+	 * @return Charset ของข้อมูล
+	 */
+	static Charset charset(byte[] buf, int offset, int length) {
+		int[] b = {-1, -1, -1, -1};
+		for (int i = 0; i < 4 && i < length; i++) {
+			b[i] = buf[offset + i] & 0xFF;
+		}
+		if (b[0] == 0 && b[1] == 0 && b[2] == 0xFE && b[3] == 0xFF
+				|| b[0] == 0xFF && b[1] == 0xFE && b[2] == 0 && b[3] == 0)
+			return Charset.forName("UTF-32");
+		else if (b[0] == 0xFE && b[1] == 0xFF || b[0] == 0xFF && b[1] == 0xFE)
+			return StandardCharsets.UTF_16;
+		else if (b[0] == 0 && b[1] == 0 && b[2] == 0 && b[3] > 0)
+			return Charset.forName("UTF-32BE");
+		else if (b[0] > 0 && b[1] == 0 && b[2] == 0 && b[3] == 0)
+			return Charset.forName("UTF-32LE");
+		else if (b[0] == 0 && b[1] > 0) return StandardCharsets.UTF_16BE;
+		else if (b[0] > 0 && b[1] == 0) return StandardCharsets.UTF_16LE;
+		else return StandardCharsets.UTF_8;
+	}
+
+	/**
+	 * Attribute สำหรับจดจำตำแหน่งของข้อผิดพลาดล่าสุดที่พบ (-1 หากยังไม่พบ)
+	 */
+	long failure = -1;
+
+	/**
+	 * เรียกตำแหน่งปัจจุบันของ cursor
+	 *
+	 * @return ตำแหน่งปัจจุบันของ cursor นับจากจุดเริ่มต้นของข้อมูล
+	 */
+	abstract long position();
+
+	/**
+	 * ตรวจสอบว่าข้อมูลทั้งหมดอยู่ในหน่วยความจำหรือไม่ (สามารถเรียก
+	 * {@link #slice(long, long)} และ {@link #text(long, long)} ได้)
+	 *
+	 * @return true หากข้อมูลทั้งหมดอยู่ในหน่วยความจำ
+	 */
+	boolean buffered() {
+		return false;
+	}
+
+	/**
+	 * เรียกตำแหน่งสิ้นสุดของข้อมูล
+	 *
+	 * @return ตำแหน่งสิ้นสุดของข้อมูล หรือ -1
+	 *         หากข้อมูลไม่ได้อยู่ในหน่วยความจำทั้งหมด
+	 */
+	long end() {
+		return -1;
+	}
+
+	/**
+	 * สร้าง {@link Source} สำหรับอ่านข้อมูลช่วงที่ระบุซ้ำอีกครั้ง
+	 *
+	 * @param start
+	 *            ตำแหน่งเริ่มต้นของช่วง (จาก {@link #position()})
+	 * @param end
+	 *            ตำแหน่งสิ้นสุดของช่วง (ไม่รวม)
+	 * @return {@link Source} ของข้อมูลช่วงที่ระบุ
+	 * @throws UnsupportedOperationException
+	 *             ข้อมูลไม่ได้อยู่ในหน่วยความจำทั้งหมด
+	 */
+	Source slice(long start, long end) throws UnsupportedOperationException {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * เรียกข้อความของข้อมูลช่วงที่ระบุตามต้นฉบับ
+	 *
+	 * @param start
+	 *            ตำแหน่งเริ่มต้นของช่วง (จาก {@link #position()})
+	 * @param end
+	 *            ตำแหน่งสิ้นสุดของช่วง (ไม่รวม)
+	 * @return ข้อความของข้อมูลช่วงที่ระบุ
+	 * @throws UnsupportedOperationException
+	 *             ข้อมูลไม่ได้อยู่ในหน่วยความจำทั้งหมด
+	 */
+	String text(long start, long end) throws UnsupportedOperationException {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * เรียกตัวอักษรถัดไปที่ไม่ใช่ whitespace โดย cursor
+	 * จะหยุดอยู่ที่ตัวอักษรนั้น
+	 *
+	 * @return ตัวอักษรถัดไป หรือ -1 หากสิ้นสุดข้อมูล
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	abstract int peek() throws IOException;
+
+	/**
+	 * เลื่อน cursor ผ่านตัวอักษรที่ได้จาก {@link #peek()}
+	 */
+	abstract void skip();
+
+	/**
+	 * แปลงตัวอักษรที่ตามหลัง <code>'\\'</code> เป็นตัวอักษรที่ถูก escape
+	 *
+	 * @param c
+	 *            ตัวอักษรที่ตามหลัง <code>'\\'</code>
+	 * @return ตัวอักษรที่ถูก escape หรือ -1 หากไม่ใช่ escape แบบตัวอักษรเดียว
+	 */
+	static int unescape(int c) {
+		switch (c) {
+		case '"':
+		case '\'':
+		case '\\':
+		case '/':
+			return c;
+		case 'b':
+			return '\b';
+		case 'f':
+			return '\f';
+		case 'n':
+			return '\n';
+		case 'r':
+			return '\r';
+		case 't':
+			return '\t';
+		default:
+			return -1;
+		}
+	}
+
+	/**
+	 * แปลงเลขฐานสิบหก 4 หลักของ <code>\\uXXXX</code> เป็นตัวอักษร
+	 *
+	 * @param a
+	 *            หลักที่ 1
+	 * @param b
+	 *            หลักที่ 2
+	 * @param c
+	 *            หลักที่ 3
+	 * @param d
+	 *            หลักที่ 4
+	 * @return ค่าของตัวอักษร หรือ -1 หากมีหลักที่ไม่ใช่เลขฐานสิบหก
+	 */
+	static int hex(int a, int b, int c, int d) {
+		return hex(a) << 12 | hex(b) << 8 | hex(c) << 4 | hex(d);
+	}
+
+	/**
+	 * แปลงเลขฐานสิบหกหนึ่งหลัก
+	 *
+	 * @param c
+	 *            ตัวอักษรของเลขฐานสิบหก
+	 * @return ค่าของ c หรือค่าติดลบ (ทุก bit เป็น 1) หากไม่ใช่เลขฐานสิบหก
+	 */
+	private static int hex(int c) {
+		if (c >= '0' && c <= '9') return c - '0';
+		else if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+		else if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+		else return -1;
+	}
+
+	/**
+	 * อ่าน String ที่ครอบด้วย Quotation Mark โดย cursor
+	 * ต้องอยู่ถัดจาก Quotation Mark เปิด
+	 *
+	 * @param quote
+	 *            Quotation Mark ที่ครอบ String
+	 * @return String ที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ Quotation Mark ปิดท้าย
+	 */
+	abstract String string(char quote)
+			throws IOException, IllegalArgumentException;
+
+	/**
+	 * อ่านข้าม String ที่ครอบด้วย Quotation Mark โดยไม่สร้าง String
+	 *
+	 * @param quote
+	 *            Quotation Mark ที่ครอบ String
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ Quotation Mark ปิดท้าย
+	 * @see #string(char)
+	 */
+	abstract void skipString(char quote)
+			throws IOException, IllegalArgumentException;
+
+	/**
+	 * อ่าน key ของ JSON Object ที่ไม่ได้ครอบด้วย Quotation Mark จนถึง
+	 * <code>':'</code>
+	 *
+	 * @return key ที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ <code>':'</code>
+	 */
+	abstract String name() throws IOException, IllegalArgumentException;
+
+	/**
+	 * อ่านข้าม key ของ JSON Object ที่ไม่ได้ครอบด้วย Quotation Mark
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ <code>':'</code>
+	 * @see #name()
+	 */
+	abstract void skipName() throws IOException, IllegalArgumentException;
+
+	/**
+	 * อ่าน JSON Value ที่ไม่ได้ครอบด้วย Quotation Mark
+	 *
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 *            (หยุดอ่านเมื่อพบ <code>',' ']' '}' '[' '{'</code>)
+	 * @return ข้อความของ JSON Value ที่ตัด whitespace ท้ายออกแล้ว
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	abstract String bare(boolean nested) throws IOException;
+
+	/**
+	 * อ่านข้าม JSON Value ที่ไม่ได้ครอบด้วย Quotation Mark
+	 *
+	 * @param nested
+	 *            true หากอยู่ภายใน JSON Object หรือ JSON Array
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @see #bare(boolean)
+	 */
+	abstract void skipBare(boolean nested) throws IOException;
+
+	/**
+	 * อ่านข้อมูลที่เหลือทั้งหมดตามต้นฉบับ (ไม่ตัด whitespace) ตั้งแต่ตำแหน่งที่ระบุ
+	 * (whitespace ที่ถูกอ่านข้ามไปก่อนเติม buffer ชุดปัจจุบันจะไม่ถูกรวม)
+	 *
+	 * @param start
+	 *            ตำแหน่งเริ่มต้น (จาก {@link #position()}) ที่ไม่เกินตำแหน่งปัจจุบัน
+	 * @return ข้อความที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	abstract String rest(long start) throws IOException;
+
+	/**
+	 * อ่านข้ามตัวคั่น (<code>','</code>) ที่อยู่ติดกันภายใน JSON Object
+	 * หรือ JSON Array แล้วเรียกตัวอักษรถัดไปโดยไม่อ่านข้าม
+	 *
+	 * @param close
+	 *            ตัวปิด (<code>'}'</code> หรือ <code>']'</code>)
+	 * @return ตัวอักษรถัดไป (close หากไม่มีสมาชิกเหลือ)
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ข้อมูลสิ้นสุดก่อนพบตัวปิด
+	 */
+	final int member(int close) throws IOException, IllegalArgumentException {
+		int c;
+		while ((c = peek()) == ',') {
+			skip();
+		}
+		if (c < 0) throw error(close == '}' ? "Unterminated object"
+				: "Unterminated array");
+		return c;
+	}
+
+	/**
+	 * ตรวจสอบตัวอักษรที่ตามหลังสมาชิกของ JSON Object หรือ JSON Array
+	 * โดยอ่านข้าม <code>','</code> แต่ไม่อ่านข้ามตัวปิด
+	 *
+	 * @param close
+	 *            ตัวปิด (<code>'}'</code> หรือ <code>']'</code>)
+	 * @return true หากพบตัวปิด
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ <code>','</code> หรือตัวปิด
+	 */
+	final boolean separator(int close)
+			throws IOException, IllegalArgumentException {
+		int c = peek();
+		if (c == ',') {
+			skip();
+			return false;
+		} else if (c != close) throw error(close == '}'
+				? "Expected ',' or '}'" : "Expected ',' or ']'");
+		return true;
+	}
+
+	/**
+	 * ตรวจสอบว่าสมาชิกของ JSON Object ไม่มีค่า (key ตามด้วย
+	 * <code>','</code> หรือตัวปิดทันที)
+	 *
+	 * @param close
+	 *            ตัวปิด (<code>'}'</code>)
+	 * @return true หากไม่มีค่า
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 */
+	final boolean empty(int close) throws IOException {
+		int c = peek();
+		return c == ',' || c == close;
+	}
+
+	/**
+	 * อ่าน key ของ JSON Object พร้อม <code>':'</code>
+	 *
+	 * @param c
+	 *            ตัวอักษรถัดไป (จาก {@link #member(int)})
+	 * @return key ที่อ่านได้
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ <code>':'</code> หรือ Quotation Mark ปิดท้าย
+	 */
+	final String key(int c) throws IOException, IllegalArgumentException {
+		if (c != '"' && c != '\'') return name();
+		skip();
+		String key = string((char) c);
+		colon();
+		return key;
+	}
+
+	/**
+	 * อ่านข้าม key ของ JSON Object พร้อม <code>':'</code>
+	 * โดยไม่สร้าง String
+	 *
+	 * @param c
+	 *            ตัวอักษรถัดไป (จาก {@link #member(int)})
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ <code>':'</code> หรือ Quotation Mark ปิดท้าย
+	 * @see #key(int)
+	 */
+	final void skipKey(int c) throws IOException, IllegalArgumentException {
+		if (c != '"' && c != '\'') {
+			skipName();
+			return;
+		}
+		skip();
+		skipString((char) c);
+		colon();
+	}
+
+	/**
+	 * อ่านข้าม <code>':'</code> ที่ตามหลัง key ที่ครอบด้วย Quotation Mark
+	 *
+	 * @throws IOException
+	 *             ไม่สามารถอ่านข้อมูลได้
+	 * @throws IllegalArgumentException
+	 *             ไม่พบ <code>':'</code>
+	 */
+	private void colon() throws IOException, IllegalArgumentException {
+		if (peek() != ':') throw error("Expected ':'");
+		skip();
+	}
+
+	/**
+	 * สร้าง Exception สำหรับข้อมูล JSON String ที่ไม่ถูกต้อง
+	 *
+	 * @param message
+	 *            ข้อความอธิบาย
+	 * @param position
+	 *            ตำแหน่งที่พบข้อผิดพลาด
+	 * @return Exception ที่สร้างขึ้น
+	 */
+	IllegalArgumentException error(String message, long position) {
+		failure = position;
+		return new IllegalArgumentException(
+				message + " at position " + position + ".");
+	}
+
+	/**
+	 * สร้าง Exception สำหรับข้อมูล JSON String ที่ไม่ถูกต้อง ณ
+	 * ตำแหน่งปัจจุบัน
+	 *
+	 * @param message
+	 *            ข้อความอธิบาย
+	 * @return Exception ที่สร้างขึ้น
+	 */
+	IllegalArgumentException error(String message) {
+		return error(message, position());
+	}
+}
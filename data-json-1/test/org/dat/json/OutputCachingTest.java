@@ -0,0 +1,67 @@
+package org.dat.json;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * <h3>Class OutputCachingTest</h3>
+ * <p>
+ * Class OutputCachingTest เป็น Class สำหรับทดสอบว่า JSON String
+ * ที่เขียนไว้แล้ว ({@link JSON.Props#outputCaching})
+ * ตรงกับข้อมูลปัจจุบันเสมอ
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+public class OutputCachingTest {
+	/**
+	 * เขียน JSON String แบบไม่ใช้ JSON String ที่เขียนไว้แล้ว
+	 *
+	 * @param json
+	 *            {@link JSON} Object ที่ต้องการเขียน
+	 * @return JSON String ของข้อมูลปัจจุบัน
+	 */
+	private static String fresh(JSON json) {
+		boolean caching = json.props.outputCaching;
+		try {
+			return json.enableOutputCaching(false).toString();
+		} finally {
+			json.enableOutputCaching(caching);
+		}
+	}
+
+	@Test
+	public void nestedChange() {
+		JSON json = new JSON("{\"a\":{\"b\":[1,2]}}").enableOutputCaching(true);
+		assertEquals("{\"a\":{\"b\":[1,2]}}", json.toString());
+		json.get("a").get("b").add(3);
+		assertEquals("{\"a\":{\"b\":[1,2,3]}}", json.toString());
+	}
+
+	@Test
+	public void sourceChangedAfterSet() {
+		JSON source = new JSON("{\"a\":1}");
+		JSON target = new JSON().enableOutputCaching(true);
+		target.set("w", source);
+		String output = target.toString();
+		source.set("b", 2);
+		assertEquals(fresh(target), target.toString());
+		assertEquals(output, target.toString());
+		assertEquals("{\"a\":1,\"b\":2}", source.toString());
+	}
+
+	@Test
+	public void targetChangedAfterSet() {
+		JSON source = new JSON("{\"a\":1}").enableOutputCaching(true);
+		assertEquals("{\"a\":1}", source.toString());
+		JSON target = new JSON();
+		target.set("w", source);
+		target.get("w").set("a", 5);
+		assertEquals(fresh(source), source.toString());
+		assertEquals("{\"a\":1}", source.toString());
+		assertEquals("{\"w\":{\"a\":5}}", target.toString());
+	}
+}
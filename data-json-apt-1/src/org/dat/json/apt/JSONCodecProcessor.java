@@ -0,0 +1,527 @@
+package org.dat.json.apt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * <h3>Class JSONCodecProcessor</h3>
+ * <p>
+ * Class JSONCodecProcessor เป็น Annotation Processor สำหรับสร้าง
+ * <code>org.dat.json.JSONCodec</code> ของทุก Class ที่มี Field ที่ประกาศ
+ * {@value #XML_ELEMENT} (<code>JSON.Props.objectParsingKey</code>
+ * ตั้งต้น) ระหว่าง compile โดยตั้งชื่อเป็น
+ * <code>&lt;ชื่อ Class&gt;_JSONCodec</code> ไว้ใน package เดียวกัน
+ * ซึ่ง <code>org.dat.json.JSON</code> จะค้นหาและเรียกใช้แทน Reflection
+ * โดยอัตโนมัติ
+ * </p>
+ * <p>
+ * JSON Key ของแต่ละ Field จะถูกค้นหาตามกฎเดียวกับ
+ * <code>JSON.Util.getJsonKey</code> โดยใช้ Properties ที่กำหนดผ่าน Option
+ * ของ compiler ได้แก่ {@value #KEY_FIELD} (ค่าตั้งต้น <code>name</code>),
+ * {@value #IGNORE_FIELD} (ชื่อเต็มของ Annotation) และ {@value #REQUIRE}
+ * (<code>true</code> หรือ <code>false</code>) และ JSONCodec ที่สร้างขึ้น
+ * จะถูกใช้เฉพาะเมื่อ Properties ขณะแปลงตรงกับที่ใช้สร้างเท่านั้น
+ * </p>
+ * <p>
+ * Class ที่ไม่สามารถเข้าถึงได้โดยตรง (เช่น มี Field ที่เป็น private
+ * หรือ final, ไม่มี Constructor ที่ไม่มี parameter หรือ Field ที่มี
+ * Type Variable) จะไม่ถูกสร้าง JSONCodec และยังคงใช้ Reflection ตามเดิม
+ * </p>
+ *
+ * @author เสือไฮ่
+ * @version 1.0.0
+ * @since JDK-1.8, JSON-1.2.0
+ */
+@SupportedAnnotationTypes(JSONCodecProcessor.XML_ELEMENT)
+@SupportedOptions({ JSONCodecProcessor.KEY_FIELD,
+		JSONCodecProcessor.IGNORE_FIELD, JSONCodecProcessor.REQUIRE })
+public class JSONCodecProcessor extends AbstractProcessor {
+	/**
+	 * <h3>Class JSONCodecProcessor.Skip</h3>
+	 * <p>
+	 * Class JSONCodecProcessor.Skip เป็น Exception
+	 * สำหรับแจ้งว่าไม่สามารถสร้าง JSONCodec ของ Class ได้
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Skip extends Exception {
+		/**
+		 * Field สำหรับ {@link java.io.Serializable}
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Skip}
+		 *
+		 * @param message
+		 *            สาเหตุที่ไม่สามารถสร้าง JSONCodec ได้
+		 */
+		Skip(String message) {
+			super(message);
+		}
+	}
+
+	/**
+	 * <h3>Class JSONCodecProcessor.Property</h3>
+	 * <p>
+	 * Class JSONCodecProcessor.Property เป็น Class สำหรับเก็บข้อมูลของ
+	 * Field ที่ใช้สร้าง JSONCodec
+	 * </p>
+	 *
+	 * @author เสือไฮ่
+	 */
+	private static final class Property {
+		/**
+		 * Attribute สำหรับเก็บ JSON Key ของ Field
+		 */
+		String key;
+		/**
+		 * Attribute สำหรับเก็บ Expression ของ Generic Type ของ Field
+		 */
+		String type;
+		/**
+		 * Attribute สำหรับเก็บ Expression สำหรับเข้าถึง Field
+		 */
+		String access;
+		/**
+		 * Attribute สำหรับเก็บ Type ที่ใช้ cast ค่าก่อนกำหนดให้กับ Field
+		 * (null หาก Field เป็น static final)
+		 */
+		String cast;
+	}
+
+	/**
+	 * ชื่อของ Annotation ที่ใช้ระบุ JSON Key
+	 */
+	public static final String XML_ELEMENT = "javax.xml.bind.annotation.XmlElement";
+	/**
+	 * Option สำหรับกำหนด <code>JSON.Props.objectParsingKeyField</code>
+	 */
+	public static final String KEY_FIELD = "org.dat.json.keyField";
+	/**
+	 * Option สำหรับกำหนด
+	 * <code>JSON.Props.objectParsingKeyIgnoreField</code>
+	 */
+	public static final String IGNORE_FIELD = "org.dat.json.ignoreField";
+	/**
+	 * Option สำหรับกำหนด <code>JSON.Props.objectParsingKeyRequire</code>
+	 */
+	public static final String REQUIRE = "org.dat.json.require";
+	/**
+	 * ส่วนท้ายของชื่อ Class ที่สร้างขึ้น
+	 */
+	public static final String SUFFIX = "_JSONCodec";
+
+	/**
+	 * Attribute สำหรับเก็บ {@link Elements} ของ compiler
+	 */
+	private Elements elements;
+	/**
+	 * Attribute สำหรับเก็บ {@link Types} ของ compiler
+	 */
+	private Types types;
+	/**
+	 * Attribute สำหรับเก็บชื่อ Field ของ Annotation ที่ใช้ระบุ JSON Key
+	 */
+	private String keyField;
+	/**
+	 * Attribute สำหรับเก็บชื่อเต็มของ Annotation ที่ใช้ระบุ Field
+	 * ที่ไม่ต้องการ (null หากไม่ได้กำหนด)
+	 */
+	private String ignoreField;
+	/**
+	 * Attribute สำหรับเก็บว่าทุก Field ต้องประกาศ {@value #XML_ELEMENT}
+	 * หรือไม่
+	 */
+	private boolean require;
+	/**
+	 * Attribute สำหรับเก็บชื่อของ Class ที่สร้าง JSONCodec แล้ว
+	 */
+	private final Set<String> done = new HashSet<>();
+
+	@Override
+	public synchronized void init(ProcessingEnvironment env) {
+		super.init(env);
+		elements = env.getElementUtils();
+		types = env.getTypeUtils();
+		Map<String, String> options = env.getOptions();
+		keyField = options.containsKey(KEY_FIELD) ? options.get(KEY_FIELD)
+				: "name";
+		ignoreField = options.get(IGNORE_FIELD);
+		if (ignoreField != null && ignoreField.isEmpty()) ignoreField = null;
+		require = Boolean.parseBoolean(options.get(REQUIRE));
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+			RoundEnvironment round) {
+		TypeElement annotation = elements.getTypeElement(XML_ELEMENT);
+		if (annotation == null) return false;
+		Set<TypeElement> classes = new LinkedHashSet<>();
+		for (Element element : round.getElementsAnnotatedWith(annotation)) {
+			if (element.getKind() == ElementKind.FIELD) {
+				classes.add((TypeElement) element.getEnclosingElement());
+			}
+		}
+		for (TypeElement type : classes) {
+			if (!done.add(type.getQualifiedName().toString())) continue;
+			try {
+				generate(type);
+			} catch (Skip e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+						"No JSONCodec for " + type + ": " + e.getMessage(),
+						type);
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR, e.toString(), type);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * สร้าง JSONCodec ของ Class ที่ระบุ
+	 *
+	 * @param type
+	 *            Class ที่ต้องการ
+	 * @throws Skip
+	 *             ไม่สามารถสร้าง JSONCodec ของ type ได้
+	 * @throws IOException
+	 *             ไม่สามารถเขียนไฟล์ได้
+	 */
+	private void generate(TypeElement type) throws Skip, IOException {
+		if (type.getKind() != ElementKind.CLASS
+				|| type.getModifiers().contains(Modifier.ABSTRACT))
+			throw new Skip("not a concrete class");
+		for (Element e = type; e instanceof TypeElement; e = e
+				.getEnclosingElement()) {
+			TypeElement t = (TypeElement) e;
+			if (t.getModifiers().contains(Modifier.PRIVATE)
+					|| t.getNestingKind() == NestingKind.MEMBER
+							&& !t.getModifiers().contains(Modifier.STATIC)
+					|| t.getNestingKind() == NestingKind.LOCAL
+					|| t.getNestingKind() == NestingKind.ANONYMOUS)
+				throw new Skip("class is not accessible");
+		}
+		boolean constructor = false;
+		for (ExecutableElement c : ElementFilter
+				.constructorsIn(type.getEnclosedElements())) {
+			constructor |= c.getParameters().isEmpty()
+					&& !c.getModifiers().contains(Modifier.PRIVATE);
+		}
+		if (!constructor) throw new Skip("no accessible no-arg constructor");
+
+		PackageElement pkg = elements.getPackageOf(type);
+		String name = type.getQualifiedName().toString();
+		List<Property> properties = new ArrayList<>();
+		for (TypeElement c = type; c != null; c = superclass(c)) {
+			boolean local = elements.getPackageOf(c).equals(pkg);
+			for (VariableElement field : ElementFilter
+					.fieldsIn(c.getEnclosedElements())) {
+				String key = key(field);
+				if (key == null) continue;
+				Set<Modifier> modifiers = field.getModifiers();
+				if (modifiers.contains(Modifier.PRIVATE) || !local
+						&& !(modifiers.contains(Modifier.PUBLIC) && c
+								.getModifiers().contains(Modifier.PUBLIC)))
+					throw new Skip("field " + field + " is not accessible");
+				boolean stat = modifiers.contains(Modifier.STATIC);
+				boolean fin = modifiers.contains(Modifier.FINAL);
+				if (fin && !stat)
+					throw new Skip("field " + field + " is final");
+				String owner = c.getQualifiedName().toString();
+				Property property = new Property();
+				property.key = key;
+				property.type = literal(field.asType(), field);
+				property.access = (stat ? owner
+						: c == type ? "object" : "((" + owner + ") object)")
+						+ "." + field.getSimpleName();
+				property.cast = fin ? null : cast(field.asType());
+				properties.add(property);
+			}
+		}
+
+		String simple = elements.getBinaryName(type).toString();
+		simple = simple.substring(simple.lastIndexOf('.') + 1).replace('$',
+				'_') + SUFFIX;
+		String qualified = pkg.isUnnamed() ? simple
+				: pkg.getQualifiedName() + "." + simple;
+		try (Writer out = processingEnv.getFiler()
+				.createSourceFile(qualified, type).openWriter()) {
+			write(out, pkg, simple, name, properties);
+		}
+	}
+
+	/**
+	 * เขียน Source Code ของ JSONCodec
+	 *
+	 * @param out
+	 *            ตัวเก็บผลลัพธ์
+	 * @param pkg
+	 *            package ของ Class
+	 * @param simple
+	 *            ชื่อของ JSONCodec
+	 * @param name
+	 *            ชื่อเต็มของ Class
+	 * @param properties
+	 *            Field ที่ใช้แปลง
+	 * @throws IOException
+	 *             ไม่สามารถเขียนไฟล์ได้
+	 */
+	private void write(Writer out, PackageElement pkg, String simple,
+			String name, List<Property> properties) throws IOException {
+		if (!pkg.isUnnamed()) {
+			out.write("package " + pkg.getQualifiedName() + ";\n\n");
+		}
+		out.write("/**\n * JSONCodec ของ {@link " + name
+				+ "} ที่สร้างโดย {@link " + getClass().getName() + "}\n */\n");
+		out.write("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+		out.write("public final class " + simple
+				+ " extends org.dat.json.JSONCodec<" + name + "> {\n");
+
+		out.write("\tpublic " + simple + "() {\n\t\tsuper(" + name
+				+ ".class, new String[] {");
+		for (int i = 0; i < properties.size(); i++) {
+			out.write((i > 0 ? ", " : " ") + quote(properties.get(i).key));
+		}
+		out.write(" }, new java.lang.reflect.Type[] {");
+		for (int i = 0; i < properties.size(); i++) {
+			out.write((i > 0 ? ", " : " ") + properties.get(i).type);
+		}
+		out.write(" });\n\t}\n\n");
+
+		out.write("\t@Override\n\tpublic boolean accepts("
+				+ "org.dat.json.JSON.Props props) {\n");
+		out.write("\t\treturn props.objectParsingKey == " + XML_ELEMENT
+				+ ".class\n");
+		out.write("\t\t\t\t&& " + quote(keyField)
+				+ ".equals(props.objectParsingKeyField)\n");
+		out.write("\t\t\t\t&& props.objectParsingKeyIgnoreField == "
+				+ (ignoreField == null ? "null" : ignoreField + ".class")
+				+ "\n");
+		out.write("\t\t\t\t&& " + (require ? "" : "!")
+				+ "props.objectParsingKeyRequire;\n\t}\n\n");
+
+		out.write("\t@Override\n\tpublic " + name + " newInstance() {\n"
+				+ "\t\treturn new " + name + "();\n\t}\n\n");
+
+		out.write("\t@Override\n\tpublic Object get(" + name
+				+ " object, int index) {\n\t\tswitch (index) {\n");
+		for (int i = 0; i < properties.size(); i++) {
+			out.write("\t\tcase " + i + ":\n\t\t\treturn "
+					+ properties.get(i).access + ";\n");
+		}
+		out.write("\t\tdefault:\n\t\t\tthrow new IndexOutOfBoundsException("
+				+ "String.valueOf(index));\n\t\t}\n\t}\n\n");
+
+		out.write("\t@Override\n\tpublic void set(" + name
+				+ " object, int index, Object value) {\n"
+				+ "\t\tswitch (index) {\n");
+		for (int i = 0; i < properties.size(); i++) {
+			Property property = properties.get(i);
+			out.write("\t\tcase " + i + ":\n");
+			if (property.cast == null) {
+				out.write("\t\t\tthrow new UnsupportedOperationException();\n");
+			} else {
+				out.write("\t\t\t" + property.access + " = (" + property.cast
+						+ ") value;\n\t\t\treturn;\n");
+			}
+		}
+		out.write("\t\tdefault:\n\t\t\tthrow new IndexOutOfBoundsException("
+				+ "String.valueOf(index));\n\t\t}\n\t}\n}\n");
+	}
+
+	/**
+	 * เรียก Class แม่ของ Class ที่ระบุ
+	 *
+	 * @param type
+	 *            Class ที่ต้องการ
+	 * @return Class แม่ หรือ null หากเป็น {@link Object}
+	 */
+	private TypeElement superclass(TypeElement type) {
+		TypeMirror parent = type.getSuperclass();
+		if (parent.getKind() != TypeKind.DECLARED) return null;
+		TypeElement element = (TypeElement) types.asElement(parent);
+		return element.getQualifiedName().contentEquals("java.lang.Object")
+				? null : element;
+	}
+
+	/**
+	 * ค้นหา JSON Key ของ Field ตามกฎของ <code>JSON.Util.getJsonKey</code>
+	 *
+	 * @param field
+	 *            Field ที่ต้องการ
+	 * @return JSON Key ของ field หรือ null หากไม่ใช้ field
+	 * @throws Skip
+	 *             ไม่สามารถแปลงค่าใน Annotation เป็น JSON Key ได้
+	 */
+	private String key(VariableElement field) throws Skip {
+		String fallback = require ? null : field.getSimpleName().toString();
+		if (ignoreField != null && runtime(annotation(field, ignoreField)))
+			return null;
+		AnnotationMirror element = annotation(field, XML_ELEMENT);
+		if (element == null) return fallback;
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+				.getElementValuesWithDefaults(element).entrySet()) {
+			if (!entry.getKey().getSimpleName().contentEquals(keyField))
+				continue;
+			Object value = entry.getValue().getValue();
+			if (value instanceof List) {
+				List<?> list = (List<?>) value;
+				if (list.isEmpty()) return fallback;
+				value = ((AnnotationValue) list.get(0)).getValue();
+			}
+			if (value instanceof String || value instanceof Number
+					|| value instanceof Boolean || value instanceof Character)
+				return value.toString();
+			throw new Skip("unsupported " + keyField + " on " + field);
+		}
+		return fallback;
+	}
+
+	/**
+	 * ค้นหา Annotation ที่ประกาศบน Element
+	 *
+	 * @param element
+	 *            Element ที่ต้องการ
+	 * @param name
+	 *            ชื่อเต็มของ Annotation
+	 * @return Annotation ที่พบ หรือ null หากไม่พบ
+	 */
+	private AnnotationMirror annotation(Element element, String name) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement())
+					.getQualifiedName().contentEquals(name))
+				return mirror;
+		}
+		return null;
+	}
+
+	/**
+	 * ตรวจสอบว่า Annotation สามารถอ่านได้ระหว่าง runtime หรือไม่
+	 *
+	 * @param mirror
+	 *            Annotation ที่ต้องการ หรือ null
+	 * @return true หาก mirror ไม่เป็น null และประกาศ
+	 *         {@link RetentionPolicy#RUNTIME}
+	 */
+	private boolean runtime(AnnotationMirror mirror) {
+		if (mirror == null) return false;
+		Retention retention = mirror.getAnnotationType().asElement()
+				.getAnnotation(Retention.class);
+		return retention != null
+				&& retention.value() == RetentionPolicy.RUNTIME;
+	}
+
+	/**
+	 * สร้าง Expression ของ Generic Type ของ Field
+	 *
+	 * @param type
+	 *            Type ของ Field
+	 * @param field
+	 *            Field ที่ต้องการ
+	 * @return Expression ของ <code>java.lang.reflect.Type</code>
+	 * @throws Skip
+	 *             type มี Type Variable, Wildcard หรือเป็น Generic Array
+	 */
+	private String literal(TypeMirror type, VariableElement field)
+			throws Skip {
+		if (type.getKind().isPrimitive()) return type + ".class";
+		else if (type.getKind() == TypeKind.ARRAY) {
+			TypeMirror component = type;
+			while (component.getKind() == TypeKind.ARRAY) {
+				component = ((ArrayType) component).getComponentType();
+			}
+			if (component.getKind() == TypeKind.DECLARED
+					&& ((DeclaredType) component).getTypeArguments().isEmpty()
+					|| component.getKind().isPrimitive())
+				return types.erasure(type) + ".class";
+		} else if (type.getKind() == TypeKind.DECLARED) {
+			List<? extends TypeMirror> args = ((DeclaredType) type)
+					.getTypeArguments();
+			String raw = types.erasure(type) + ".class";
+			if (args.isEmpty()) return raw;
+			StringBuilder str = new StringBuilder("parameterized(")
+					.append(raw);
+			for (TypeMirror arg : args) {
+				str.append(", ").append(literal(arg, field));
+			}
+			return str.append(')').toString();
+		}
+		throw new Skip("unsupported type of field " + field);
+	}
+
+	/**
+	 * สร้างชื่อ Type ที่ใช้ cast ค่าก่อนกำหนดให้กับ Field
+	 *
+	 * @param type
+	 *            Type ของ Field
+	 * @return ชื่อ Type (primitive จะใช้ Wrapper)
+	 */
+	private String cast(TypeMirror type) {
+		if (type.getKind().isPrimitive())
+			return types.boxedClass((PrimitiveType) type)
+					.getQualifiedName().toString();
+		return types.erasure(type).toString();
+	}
+
+	/**
+	 * สร้าง String Literal ของข้อความ
+	 *
+	 * @param value
+	 *            ข้อความที่ต้องการ
+	 * @return String Literal ของ value
+	 */
+	private static String quote(String value) {
+		StringBuilder str = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				str.append('\\').append(c);
+			} else if (c < 0x20 || c > 0x7E) {
+				str.append(String.format("\\u%04x", (int) c));
+			} else str.append(c);
+		}
+		return str.append('"').toString();
+	}
+}